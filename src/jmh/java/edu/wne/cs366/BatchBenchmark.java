@@ -0,0 +1,82 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of many small instances: a plain loop over connectSticksHeap() against
+ * BatchSolver on a fixed platform pool and on virtual threads.
+ *
+ * Scores are per instance. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=BatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(BatchBenchmark.INSTANCES)
+public class BatchBenchmark {
+
+    static final int INSTANCES = 100_000;
+
+    private int[][] instances;
+    private BatchSolver fixedPool;
+    private BatchSolver virtualThreads;
+
+    @Setup
+    public void setUp() {
+        // Sizes from main()'s testCases (3-5 sticks) up to a few hundred
+        SplittableRandom random = new SplittableRandom(366);
+        instances = new int[INSTANCES][];
+        for (int i = 0; i < INSTANCES; i++) {
+            int length = 2 + (i % 10 == 0 ? random.nextInt(500) : random.nextInt(8));
+            instances[i] = new int[length];
+            for (int j = 0; j < length; j++) {
+                instances[i][j] = 1 + random.nextInt(100);
+            }
+        }
+        fixedPool = BatchSolver.fixedPool(Runtime.getRuntime().availableProcessors());
+        virtualThreads = BatchSolver.virtualThreads();
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixedPool.close();
+        virtualThreads.close();
+    }
+
+    @Benchmark
+    public long sequentialLoop() {
+        long total = 0;
+        for (int[] sticks : instances) {
+            total += GreedyAlgorithms.connectSticksHeap(sticks);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long[] fixedPool() {
+        return fixedPool.solve(instances);
+    }
+
+    @Benchmark
+    public long[] virtualThreads() {
+        return virtualThreads.solve(instances);
+    }
+}
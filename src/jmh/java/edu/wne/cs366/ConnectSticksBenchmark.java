@@ -0,0 +1,80 @@
+package edu.wne.cs366;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state throughput of the O(n log n) and O(n) engines.
+ *
+ * Unlike compareApproaches(), which times one cold call, JMH warms up the JIT and reports the
+ * average over many measured iterations. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=ConnectSticksBenchmark
+ *
+ * The naive O(n²) engine is benchmarked separately in NaiveBenchmark, on smaller n.
+ * Allocation rates come from the gc profiler enabled in build.gradle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ConnectSticksBenchmark {
+
+    /** Input element type: int[] goes to the int engines, long[] to the ...Long engines. */
+    public enum ElementType { INT, LONG }
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000", "100000000"})
+    public int n;
+
+    @Param
+    public StickDistribution distribution;
+
+    @Param
+    public ElementType type;
+
+    private int[] intSticks;
+    private long[] longSticks;
+
+    @Setup
+    public void setUp() {
+        if (type == ElementType.INT) {
+            intSticks = distribution.generate(n);
+        } else {
+            longSticks = distribution.generateLong(n);
+        }
+    }
+
+    @Benchmark
+    public long heap() {
+        return type == ElementType.INT
+            ? GreedyAlgorithms.connectSticksHeap(intSticks)
+            : GreedyAlgorithms.connectSticksHeapLong(longSticks);
+    }
+
+    @Benchmark
+    public long primitiveHeap() {
+        return type == ElementType.INT
+            ? GreedyAlgorithms.connectSticksPrimitiveHeap(intSticks)
+            : GreedyAlgorithms.connectSticksPrimitiveHeapLong(longSticks);
+    }
+
+    @Benchmark
+    public long twoQueue() {
+        return type == ElementType.INT
+            ? GreedyAlgorithms.connectSticksTwoQueue(intSticks)
+            : GreedyAlgorithms.connectSticksTwoQueueLong(longSticks);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Heap engines by arity, from heaps that fit in L1/L2 to heaps far larger than the last-level
+ * cache. "priorityQueue" is connectSticksHeap(), "binary" is connectSticksPrimitiveHeap(), and
+ * "d2".."d16" are connectSticksDaryHeap() with that arity. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=DaryHeapBenchmark
+ *
+ * The forked JVM gets 8 GB because the 10^8 priorityQueue case keeps 10^8 boxed sticks alive.
+ * connectSticksHeap() and connectSticksPrimitiveHeap() return a wrapped int at the larger sizes;
+ * that does not change the work done.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class DaryHeapBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000", "100000000"})
+    public int n;
+
+    @Param({"priorityQueue", "binary", "d2", "d4", "d8", "d16"})
+    public String heap;
+
+    private int[] sticks;
+    private int arity;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(366L);
+        sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000_000);
+        }
+        arity = heap.startsWith("d") ? Integer.parseInt(heap.substring(1)) : 0;
+    }
+
+    @Benchmark
+    public long connect() {
+        switch (heap) {
+            case "priorityQueue":
+                return GreedyAlgorithms.connectSticksHeap(sticks);
+            case "binary":
+                return GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
+            default:
+                return GreedyAlgorithms.connectSticksDaryHeap(sticks, arity);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evidence for the thresholds in EngineSelector: each candidate engine on its own, plus the
+ * adaptive connectSticks() that has to pay for its input scan. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=EngineSelectionBenchmark
+ *
+ * - tiny vs twoQueue over n = 8..128 locates TINY_MAX_STICKS
+ * - countingSort vs comparisonSort over rangeFactor locates COUNTING_RANGE_FACTOR
+ * - adaptive should track the best of the others at every point
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EngineSelectionBenchmark {
+
+    @Param({"8", "16", "32", "64", "128", "10000", "1000000"})
+    public int n;
+
+    /** Value range as a multiple of n; the lengths are uniform in [1, rangeFactor * n]. */
+    @Param({"1", "4", "16", "32", "48", "64"})
+    public int rangeFactor;
+
+    private int[] sticks;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(366L);
+        sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(rangeFactor * n);
+        }
+    }
+
+    @Benchmark
+    public long adaptive() {
+        return GreedyAlgorithms.connectSticks(sticks);
+    }
+
+    @Benchmark
+    public long tiny() {
+        return EngineSelector.tiny(sticks);
+    }
+
+    @Benchmark
+    public int twoQueue() {
+        return GreedyAlgorithms.connectSticksTwoQueue(sticks);
+    }
+
+    @Benchmark
+    public int primitiveHeap() {
+        return GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
+    }
+
+    @Benchmark
+    public long countingSort() {
+        return TwoQueueMerge.mergeSortedExact(TwoQueueMerge.countingSort(sticks, 1, rangeFactor * n));
+    }
+
+    @Benchmark
+    public long comparisonSort() {
+        int[] sorted = sticks.clone();
+        Arrays.sort(sorted);
+        return TwoQueueMerge.mergeSortedExact(sorted);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the EngineMetrics overloads against the plain engines on the same input. The plain
+ * primitive heap shares LongMinHeap with the counting one, so primitiveHeap() also shows whether
+ * the counting flag slows the uninstrumented path. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=InstrumentationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class InstrumentationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    private int[] sticks;
+    private final EngineMetrics metrics = new EngineMetrics();
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(366L);
+        sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000);
+        }
+    }
+
+    @Benchmark
+    public int primitiveHeap() {
+        return GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
+    }
+
+    @Benchmark
+    public int primitiveHeapInstrumented() {
+        return GreedyAlgorithms.connectSticksPrimitiveHeap(sticks, metrics);
+    }
+
+    @Benchmark
+    public int heap() {
+        return GreedyAlgorithms.connectSticksHeap(sticks);
+    }
+
+    @Benchmark
+    public int heapInstrumented() {
+        return GreedyAlgorithms.connectSticksHeap(sticks, metrics);
+    }
+}
@@ -0,0 +1,59 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * connectSticksKary() for k = 2..16 at 10^7 sticks. "connect" is the whole call, including
+ * the sort; "mergeOnly" is the k-ary two-queue loop over presorted sticks, which is the part
+ * that depends on k. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=KaryBenchmark
+ *
+ * k = 2 takes the pairwise loop, so it doubles as the connectSticksTwoQueue() baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class KaryBenchmark {
+
+    @Param({"10000000"})
+    public int n;
+
+    @Param({"2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15", "16"})
+    public int k;
+
+    private int[] sticks;
+    private int[] sorted;
+
+    @Setup
+    public void setUp() {
+        sticks = new SplittableRandom(366L).ints(n, 1, 1_000_000_000).toArray();
+        sorted = TwoQueueMerge.sortedCopy(sticks);
+    }
+
+    @Benchmark
+    public long connect() {
+        return GreedyAlgorithms.connectSticksKary(sticks, k);
+    }
+
+    @Benchmark
+    public long mergeOnly() {
+        return TwoQueueMerge.mergeSortedKaryExact(sorted, k);
+    }
+}
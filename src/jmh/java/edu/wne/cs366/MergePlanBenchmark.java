@@ -0,0 +1,58 @@
+package edu.wne.cs366;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of recording the merge plan: connectSticksWithPlan() against the cost-only
+ * connectSticksHeap() and connectSticksTwoQueue(). Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=MergePlanBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MergePlanBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int n;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public StickDistribution distribution;
+
+    private int[] sticks;
+
+    @Setup
+    public void setUp() {
+        sticks = distribution.generate(n);
+    }
+
+    @Benchmark
+    public MergePlan withPlan() {
+        return GreedyAlgorithms.connectSticksWithPlan(sticks);
+    }
+
+    @Benchmark
+    public int heap() {
+        return GreedyAlgorithms.connectSticksHeap(sticks);
+    }
+
+    @Benchmark
+    public int twoQueue() {
+        return GreedyAlgorithms.connectSticksTwoQueue(sticks);
+    }
+}
@@ -0,0 +1,71 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state time of the O(n²) naive engine and of the O(n²) reference engine used as the
+ * ShadowVerifier oracle.
+ *
+ * Kept apart from ConnectSticksBenchmark because at n = 10^5 a single call already takes
+ * minutes; the sizes here overlap the low end of that benchmark so the two can be compared.
+ * reference() shows how much of the naive time is boxing and ArrayList shifting rather than
+ * the quadratic scans themselves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NaiveBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int n;
+
+    @Param
+    public StickDistribution distribution;
+
+    @Param
+    public ConnectSticksBenchmark.ElementType type;
+
+    private int[] intSticks;
+    private long[] longSticks;
+    private long[] referenceSticks;
+
+    @Setup
+    public void setUp() {
+        if (type == ConnectSticksBenchmark.ElementType.INT) {
+            intSticks = distribution.generate(n);
+        } else {
+            longSticks = distribution.generateLong(n);
+        }
+        referenceSticks = type == ConnectSticksBenchmark.ElementType.INT
+            ? Arrays.stream(intSticks).asLongStream().toArray()
+            : longSticks;
+    }
+
+    @Benchmark
+    public long naive() {
+        return type == ConnectSticksBenchmark.ElementType.INT
+            ? GreedyAlgorithms.connectSticksNaive(intSticks)
+            : GreedyAlgorithms.connectSticksNaiveLong(longSticks);
+    }
+
+    @Benchmark
+    public long reference() {
+        return GreedyAlgorithms.connectSticksReference(referenceSticks);
+    }
+}
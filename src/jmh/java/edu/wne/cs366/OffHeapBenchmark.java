@@ -0,0 +1,66 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Off-heap engine against the on-heap two-queue engine on the same lengths. The gc profiler
+ * (on by default, see build.gradle) shows the difference that matters here: offHeap allocates
+ * a constant 512 KB of digit counts per call however large n is, twoQueueLong allocates
+ * O(n) on the heap. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=OffHeapBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+// The off-heap engine is a preview class file on Java 21; no other benchmark needs the flag
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xms4g", "-Xmx4g"})
+public class OffHeapBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    public int n;
+
+    private long[] sticks;
+    private OffHeapSticks offHeapSticks;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(366L);
+        sticks = new long[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000_000);
+        }
+        offHeapSticks = OffHeapSticks.copyOf(sticks);
+    }
+
+    @TearDown
+    public void tearDown() {
+        offHeapSticks.close();
+    }
+
+    @Benchmark
+    public long offHeap() {
+        return OffHeapAlgorithms.connectSticksOffHeap(offHeapSticks);
+    }
+
+    @Benchmark
+    public long twoQueueLong() {
+        return GreedyAlgorithms.connectSticksTwoQueueLong(sticks);
+    }
+}
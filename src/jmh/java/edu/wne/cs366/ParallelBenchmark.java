@@ -0,0 +1,73 @@
+package edu.wne.cs366;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scaling of connectSticksParallel() with the size of its ForkJoinPool.
+ *
+ * presort isolates the parallel sort phase, so its time against threads shows the speedup
+ * curve. endToEnd includes the sequential merge, and heap is the single-threaded
+ * connectSticksHeap() baseline it has to beat. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=ParallelBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ParallelBenchmark {
+
+    @Param({"10000000", "100000000"})
+    public int n;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int threads;
+
+    @Param({"UNIFORM", "SKEWED"})
+    public StickDistribution distribution;
+
+    private int[] sticks;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        sticks = distribution.generate(n);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] presort() {
+        return ParallelStickSort.sortedCopy(sticks, pool);
+    }
+
+    @Benchmark
+    public long endToEnd() {
+        return GreedyAlgorithms.connectSticksParallel(sticks, pool, 0);
+    }
+
+    @Benchmark
+    public long heap() {
+        return GreedyAlgorithms.connectSticksHeap(sticks);
+    }
+}
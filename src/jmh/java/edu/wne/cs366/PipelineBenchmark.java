@@ -0,0 +1,83 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end time from a stick file on disk to the cost: the pipelined engine against the same
+ * stages run back to back on one thread (readLongs, then sort and two-queue merge). The
+ * sequential benchmark is the sum(stage) baseline; with enough cores the pipelined one should
+ * approach (read + sort) / workers + merge for unsorted files and max(read, merge) for sorted
+ * ones. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=PipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PipelineBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int n;
+
+    @Param({"false", "true"})
+    public boolean sorted;
+
+    @Param({"1", "3", "7"})
+    public int workers;
+
+    private Path path;
+    private StickFile file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(366L);
+        long[] sticks = new long[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000_000);
+        }
+        if (sorted) {
+            Arrays.sort(sticks);
+        }
+        path = Files.createTempFile("pipeline", ".sticks");
+        StickFile.writeInt64(path, sticks);
+        file = StickFile.open(path);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        file.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long sequential() {
+        return GreedyAlgorithms.connectSticksTwoQueueLong(file.readLongs());
+    }
+
+    @Benchmark
+    public long pipelined() {
+        return GreedyAlgorithms.connectSticksPipelined(file, workers);
+    }
+}
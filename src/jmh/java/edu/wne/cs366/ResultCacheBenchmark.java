@@ -0,0 +1,60 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the cache against solving: the fingerprint pass alone, a call that hits, and the
+ * uncached front door. The fingerprint should be far cheaper than solving except for inputs
+ * near ResultCache.MIN_CACHED_STICKS. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=ResultCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCacheBenchmark {
+
+    @Param({"16", "64", "1000", "1000000"})
+    public int n;
+
+    private int[] sticks;
+    private ResultCache cache;
+
+    @Setup
+    public void setUp() {
+        sticks = new SplittableRandom(366L).ints(n, 1, 1_000_000_000).toArray();
+        cache = new ResultCache(16);
+        cache.connectSticks(sticks);
+    }
+
+    @Benchmark
+    public ResultCache.Key fingerprint() {
+        return ResultCache.fingerprint(sticks);
+    }
+
+    @Benchmark
+    public long cachedHit() {
+        return cache.connectSticks(sticks);
+    }
+
+    @Benchmark
+    public long uncached() {
+        return GreedyAlgorithms.connectSticks(sticks);
+    }
+}
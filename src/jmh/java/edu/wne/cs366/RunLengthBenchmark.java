@@ -0,0 +1,73 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Run-length engine against the per-stick engines as the number of distinct lengths grows.
+ * histogram() starts from precomputed counts, i.e. the cost when the caller never builds an
+ * int[] at all. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=RunLengthBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RunLengthBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int n;
+
+    /** Lengths are uniform in [1, distinct]. */
+    @Param({"100", "5000", "1000000"})
+    public int distinct;
+
+    private int[] sticks;
+    private long[] countByLength;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(366L);
+        sticks = new int[n];
+        countByLength = new long[distinct + 1];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(distinct);
+            countByLength[sticks[i]]++;
+        }
+    }
+
+    @Benchmark
+    public long runLength() {
+        return GreedyAlgorithms.connectSticksRunLength(sticks);
+    }
+
+    @Benchmark
+    public long histogram() {
+        return GreedyAlgorithms.connectSticksHistogram(countByLength);
+    }
+
+    @Benchmark
+    public int twoQueue() {
+        return GreedyAlgorithms.connectSticksTwoQueue(sticks);
+    }
+
+    @Benchmark
+    public int primitiveHeap() {
+        return GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
+    }
+}
@@ -0,0 +1,97 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Stick-length distributions used by the JMH benchmarks.
+ *
+ * Every distribution is generated from a fixed seed so that runs are comparable.
+ */
+public enum StickDistribution {
+
+    /** Uniform lengths in [1, 100], like generateRandomSticks(n, 1, 100). */
+    UNIFORM {
+        @Override
+        int next(SplittableRandom random) {
+            return 1 + random.nextInt(100);
+        }
+    },
+
+    /** Exponentially skewed lengths: mostly short sticks with a long tail up to ~10^5. */
+    SKEWED {
+        @Override
+        int next(SplittableRandom random) {
+            double u = random.nextDouble();
+            return 1 + (int) Math.min(100_000, -Math.log(1.0 - u) * 1_000);
+        }
+    },
+
+    /** Every stick has the same length. */
+    ALL_EQUAL {
+        @Override
+        int next(SplittableRandom random) {
+            return 50;
+        }
+    },
+
+    /** Uniform lengths in [1, 10^6], sorted ascending. */
+    SORTED_ASC {
+        @Override
+        int next(SplittableRandom random) {
+            return 1 + random.nextInt(1_000_000);
+        }
+
+        @Override
+        int[] generate(int n) {
+            int[] sticks = super.generate(n);
+            Arrays.sort(sticks);
+            return sticks;
+        }
+    },
+
+    /** Uniform lengths in [1, 10^6], sorted descending. */
+    SORTED_DESC {
+        @Override
+        int next(SplittableRandom random) {
+            return 1 + random.nextInt(1_000_000);
+        }
+
+        @Override
+        int[] generate(int n) {
+            int[] sticks = super.generate(n);
+            Arrays.sort(sticks);
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                int tmp = sticks[i];
+                sticks[i] = sticks[j];
+                sticks[j] = tmp;
+            }
+            return sticks;
+        }
+    };
+
+    private static final long SEED = 366L;
+
+    abstract int next(SplittableRandom random);
+
+    /**
+     * @param n number of sticks
+     * @return n stick lengths drawn from this distribution
+     */
+    int[] generate(int n) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = next(random);
+        }
+        return sticks;
+    }
+
+    /**
+     * @param n number of sticks
+     * @return the same sticks as generate(n), widened to long
+     */
+    long[] generateLong(int n) {
+        return Arrays.stream(generate(n)).asLongStream().toArray();
+    }
+}
@@ -0,0 +1,72 @@
+package edu.wne.cs366;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of one inventory update followed by a fresh cost: a random stick is replaced by a
+ * new random length (remove + add), then cost() is read. "rebuild" applies the same update to
+ * a plain array and re-solves it with connectSticksDaryHeap(), the 64-bit heap engine that
+ * StickInventory replaces. SampleTime mode reports the p50, p90, p99 and p99.9 latencies. Run with:
+ *
+ *   ./gradlew jmh -PjmhInclude=StickInventoryBenchmark
+ *
+ * "narrow" draws lengths from 1..1000, so d stays at most 1000 whatever n is; "wide" draws
+ * from 1..10^9, so almost every stick has its own length and d is about n.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class StickInventoryBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int n;
+
+    @Param({"narrow", "wide"})
+    public String lengths;
+
+    private int bound;
+    private int[] sticks;
+    private StickInventory inventory;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        bound = lengths.equals("narrow") ? 1_000 : 1_000_000_000;
+        random = new SplittableRandom(366L);
+        sticks = random.ints(n, 1, bound + 1).toArray();
+        inventory = new StickInventory(sticks);
+    }
+
+    @Benchmark
+    public long updateAndCost() {
+        int i = random.nextInt(n);
+        int length = random.nextInt(1, bound + 1);
+        inventory.remove(sticks[i]);
+        inventory.add(length);
+        sticks[i] = length;
+        return inventory.cost();
+    }
+
+    @Benchmark
+    public long rebuild() {
+        int i = random.nextInt(n);
+        sticks[i] = random.nextInt(1, bound + 1);
+        return GreedyAlgorithms.connectSticksDaryHeap(sticks);
+    }
+}
@@ -0,0 +1,178 @@
+package edu.wne.cs366;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Solves many independent stick instances concurrently.
+ *
+ * Usage:
+ * <pre>
+ *   try (BatchSolver solver = BatchSolver.fixedPool(8)) {
+ *       long[] costs = solver.solve(instances);
+ *   }
+ * </pre>
+ *
+ * Implementation Approach:
+ * - Instances are ordered largest-first (longest-processing-time scheduling), so the big
+ *   instances start early and the small ones fill in the gaps at the end of the batch
+ * - A fixed number of workers pull instances from that order through a shared atomic cursor,
+ *   so a worker that draws short instances simply takes more of them
+ * - Each worker owns one scratch LongMinHeap and reuses it for every instance it solves, so a
+ *   batch allocates one heap array per worker instead of one per instance
+ *
+ * Workers can run on virtual threads (virtualThreads()) or on a fixed pool of platform threads
+ * (fixedPool()). The work is CPU-bound, so either way one worker per core is enough.
+ */
+public final class BatchSolver implements AutoCloseable {
+
+    /** Instances handed to a worker per cursor update, to keep contention low on tiny instances. */
+    private static final int MAX_CHUNK = 64;
+
+    private final ExecutorService executor;
+    private final int workers;
+
+    private BatchSolver(ExecutorService executor, int workers) {
+        this.executor = executor;
+        this.workers = workers;
+    }
+
+    /**
+     * Create a solver that runs one virtual thread per worker, with one worker per core.
+     *
+     * @return a new solver; close it to release its executor
+     */
+    public static BatchSolver virtualThreads() {
+        return new BatchSolver(Executors.newVirtualThreadPerTaskExecutor(),
+            Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a solver backed by a fixed pool of platform threads, one worker per thread.
+     *
+     * @param threads number of platform threads
+     * @return a new solver; close it to release its pool
+     * @throws IllegalArgumentException if threads is less than 1
+     */
+    public static BatchSolver fixedPool(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required, got " + threads);
+        }
+        return new BatchSolver(Executors.newFixedThreadPool(threads), threads);
+    }
+
+    /**
+     * Solve every instance and return the costs in input order.
+     *
+     * @param instances stick arrays, each with at least two sticks
+     * @return costs[i] is the minimum cost to connect instances.get(i)
+     * @throws IllegalArgumentException if instances is null or any instance is null or has
+     *                                  less than 2 elements
+     * @throws ArithmeticException if any cost does not fit in a long
+     */
+    public long[] solve(List<int[]> instances) {
+        if (instances == null) {
+            throw new IllegalArgumentException("Instances must not be null");
+        }
+        return solve(instances.toArray(new int[0][]));
+    }
+
+    /**
+     * Solve every instance and return the costs in input order.
+     *
+     * @param instances stick arrays, each with at least two sticks
+     * @return costs[i] is the minimum cost to connect instances[i]
+     * @throws IllegalArgumentException if instances is null or any instance is null or has
+     *                                  less than 2 elements
+     * @throws ArithmeticException if any cost does not fit in a long
+     */
+    public long[] solve(int[][] instances) {
+        if (instances == null) {
+            throw new IllegalArgumentException("Instances must not be null");
+        }
+        for (int i = 0; i < instances.length; i++) {
+            if (instances[i] == null || instances[i].length < 2) {
+                throw new IllegalArgumentException("Instance " + i + " needs at least two sticks");
+            }
+        }
+
+        long[] costs = new long[instances.length];
+        int[] order = largestFirst(instances);
+        int chunk = Math.max(1, Math.min(MAX_CHUNK, instances.length / (workers * 16)));
+        AtomicInteger cursor = new AtomicInteger();
+
+        int tasks = Math.min(workers, instances.length);
+        List<Future<?>> futures = new ArrayList<>(tasks);
+        for (int w = 0; w < tasks; w++) {
+            futures.add(executor.submit(() -> {
+                LongMinHeap scratch = new LongMinHeap(0);
+                int start;
+                while ((start = cursor.getAndAdd(chunk)) < order.length) {
+                    int end = Math.min(start + chunk, order.length);
+                    for (int k = start; k < end; k++) {
+                        int index = order[k];
+                        costs[index] = solveWith(scratch, instances[index]);
+                    }
+                }
+            }));
+        }
+        awaitAll(futures);
+        return costs;
+    }
+
+    /**
+     * Shut down the underlying executor, waiting for a running batch to finish.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private static long solveWith(LongMinHeap scratch, int[] sticks) {
+        scratch.reset(sticks);
+        long totalCost = 0;
+        while (scratch.size() > 1) {
+            totalCost = Math.addExact(totalCost, scratch.pollTwoAndOfferSumExact());
+        }
+        return totalCost;
+    }
+
+    /**
+     * @return instance indices ordered by descending instance length
+     */
+    private static int[] largestFirst(int[][] instances) {
+        long[] keys = new long[instances.length];
+        for (int i = 0; i < instances.length; i++) {
+            keys[i] = ((long) instances[i].length << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[instances.length];
+        for (int k = 0; k < keys.length; k++) {
+            order[k] = (int) keys[keys.length - 1 - k];
+        }
+        return order;
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while solving batch", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Batch worker failed", cause);
+            }
+        }
+    }
+}
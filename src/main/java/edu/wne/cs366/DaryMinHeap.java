@@ -0,0 +1,128 @@
+package edu.wne.cs366;
+
+/**
+ * Primitive d-ary min-heap of stick lengths, the data structure behind
+ * {@link GreedyAlgorithms#connectSticksDaryHeap(int[], int)}.
+ *
+ * A binary heap pays one dependent cache miss per level once it no longer fits in cache, and a
+ * pop walks log2(n) levels. With d children per node there are only log_d(n) levels; each
+ * level compares d children instead of two, but those children sit next to each other, so they
+ * cost one cache line instead of one miss each. For d = 8 that is a third of the levels of a
+ * binary heap.
+ *
+ * Layout: the root is stored at index d - 1, so the children of the node at index p occupy
+ * d * (p - d + 2) .. d * (p - d + 2) + d - 1. Every child group therefore starts at a multiple
+ * of d. With 8-byte elements and d = 8, a group is exactly 64 bytes and never spans more
+ * lines than it must: the JVM places long[] elements on an 8-byte boundary, not on a cache
+ * line, so a group covers one line when the array happens to be line-aligned and two at worst.
+ * A plain layout with the root at 0 would straddle lines for most groups regardless. The
+ * d - 1 padding slots at the front are never read.
+ *
+ * d must be a power of two so that the child and parent computations are shifts.
+ *
+ * Like LongMinHeap, lengths are held as long and the merge loop allocates nothing.
+ */
+final class DaryMinHeap {
+
+    /** Arities accepted by the constructor. */
+    static final int MIN_ARITY = 2;
+    static final int MAX_ARITY = 16;
+
+    private final long[] heap;
+    private final int arity;
+    private final int shift;
+    private final int root;
+    private int end;
+
+    /**
+     * Build a heap holding a copy of the given sticks, bottom-up in O(n).
+     *
+     * @param sticks stick lengths; the array is not modified
+     * @param arity children per node, a power of two between MIN_ARITY and MAX_ARITY
+     */
+    DaryMinHeap(int[] sticks, int arity) {
+        this.arity = arity;
+        this.shift = Integer.numberOfTrailingZeros(arity);
+        this.root = arity - 1;
+        heap = new long[root + sticks.length];
+        for (int i = 0; i < sticks.length; i++) {
+            heap[root + i] = sticks[i];
+        }
+        end = root + sticks.length;
+        for (int p = parent(end - 1); p >= root; p--) {
+            siftDown(p, heap[p]);
+        }
+    }
+
+    /**
+     * @param arity candidate number of children per node
+     * @return true if arity is a power of two between MIN_ARITY and MAX_ARITY
+     */
+    static boolean isSupportedArity(int arity) {
+        return arity >= MIN_ARITY && arity <= MAX_ARITY && Integer.bitCount(arity) == 1;
+    }
+
+    /**
+     * @return number of sticks currently in the heap
+     */
+    int size() {
+        return end - root;
+    }
+
+    /**
+     * Fused "pop two, push sum" step, as in LongMinHeap.pollTwoAndOfferSumExact(): the last
+     * element fills the root hole, then the sum replaces the new minimum, so each step costs
+     * two sift-downs.
+     *
+     * Requires size() >= 2.
+     *
+     * @return the sum of the two smallest sticks
+     * @throws ArithmeticException if the sum overflows a long
+     */
+    long pollTwoAndOfferSumExact() {
+        long first = heap[root];
+        end--;
+        siftDown(root, heap[end]);
+        long sum = Math.addExact(first, heap[root]);
+        siftDown(root, sum);
+        return sum;
+    }
+
+    private int firstChild(int p) {
+        return (p - arity + 2) << shift;
+    }
+
+    private int parent(int c) {
+        return (c >>> shift) + arity - 2;
+    }
+
+    /**
+     * Place value at index p and move it down until no child is smaller, shifting the smallest
+     * child up into the hole at each level.
+     */
+    private void siftDown(int p, long value) {
+        long[] h = heap;
+        int n = end;
+        // Comparing parents rather than child indices keeps firstChild() from overflowing
+        int lastParent = parent(n - 1);
+        while (p <= lastParent) {
+            int child = firstChild(p);
+            int last = Math.min(child + arity, n);
+            int best = child;
+            long bestValue = h[child];
+            for (int c = child + 1; c < last; c++) {
+                long candidate = h[c];
+                if (candidate < bestValue) {
+                    best = c;
+                    bestValue = candidate;
+                }
+            }
+            if (value <= bestValue) {
+                break;
+            }
+            h[p] = bestValue;
+            p = best;
+        }
+        h[p] = value;
+    }
+}
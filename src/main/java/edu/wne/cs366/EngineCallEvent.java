@@ -0,0 +1,56 @@
+package edu.wne.cs366;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event committed by EngineMetrics for every instrumented engine call.
+ *
+ * Shows up in JDK Mission Control under CS366 / Connect Sticks, and can be read back with
+ * jfr print --events edu.wne.cs366.EngineCall sticks.jfr
+ */
+@Name("edu.wne.cs366.EngineCall")
+@Label("Engine Call")
+@Category({"CS366", "Connect Sticks"})
+@Description("One instrumented connectSticks engine call")
+@StackTrace(false)
+class EngineCallEvent extends Event {
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Sticks")
+    int sticks;
+
+    @Label("Merges")
+    long merges;
+
+    @Label("Comparisons")
+    @Description("Comparisons made while finding the smallest sticks, -1 if not observable")
+    long comparisons;
+
+    @Label("Swaps")
+    @Description("Heap sift swaps or list element shifts, -1 if not observable")
+    long swaps;
+
+    @Label("Peak Live Sticks")
+    long peakLiveSticks;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Build Time")
+    @Timespan
+    long buildNanos;
+
+    @Label("Merge Time")
+    @Timespan
+    long mergeNanos;
+}
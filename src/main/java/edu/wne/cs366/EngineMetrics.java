@@ -0,0 +1,197 @@
+package edu.wne.cs366;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import jdk.jfr.EventType;
+
+/**
+ * Opt-in measurements of one engine call, filled in by the instrumented overloads such as
+ * {@link GreedyAlgorithms#connectSticksHeap(int[], EngineMetrics)}.
+ *
+ * Usage:
+ * <pre>
+ *   EngineMetrics metrics = new EngineMetrics();
+ *   for (int[] sticks : inputs) {
+ *       GreedyAlgorithms.connectSticksPrimitiveHeap(sticks, metrics);
+ *       System.out.println(metrics);
+ *   }
+ * </pre>
+ *
+ * One object can be reused for any number of calls; each call overwrites the previous values.
+ * Every counter is a plain long field, so recording allocates nothing and takes no locks. An
+ * instance must not be shared by calls running at the same time.
+ *
+ * Reported per call:
+ * - merges performed (always n - 1) and peak live sticks
+ * - heap sift comparisons and swaps; for the naive engine, list comparisons and the element
+ *   shifts done by ArrayList.remove(); -1 where the engine cannot observe them
+ * - bytes allocated by the calling thread, from com.sun.management.ThreadMXBean, or -1 if the
+ *   JVM does not support per-thread allocation counting
+ * - time spent building the data structure and time spent in the merge loop
+ *
+ * Every call is also emitted as a JFR event named edu.wne.cs366.EngineCall (see EngineCallEvent)
+ * whenever a flight recording has it enabled, e.g.
+ * java -XX:StartFlightRecording:filename=sticks.jfr ...
+ */
+public final class EngineMetrics {
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_COUNTER = allocationCounter();
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(EngineCallEvent.class);
+
+    private String engine = "";
+    private int sticks;
+    private long merges;
+    private long comparisons;
+    private long swaps;
+    private long peakLiveSticks;
+    private long allocatedBytes;
+    private long buildNanos;
+    private long mergeNanos;
+
+    private long startNanos;
+    private long mergeStartNanos;
+    private long startAllocated;
+    private EngineCallEvent event;
+
+    /**
+     * @return name of the engine measured by the last call, e.g. "heap"
+     */
+    public String engine() {
+        return engine;
+    }
+
+    /**
+     * @return number of sticks passed to the last call
+     */
+    public int sticks() {
+        return sticks;
+    }
+
+    /**
+     * @return number of merges performed
+     */
+    public long merges() {
+        return merges;
+    }
+
+    /**
+     * @return comparisons made while looking for the smallest sticks, or -1 if not observable
+     */
+    public long comparisons() {
+        return comparisons;
+    }
+
+    /**
+     * @return heap sift swaps (one element moved one level), element shifts for the naive
+     *         engine, or -1 if not observable
+     */
+    public long swaps() {
+        return swaps;
+    }
+
+    /**
+     * @return largest number of sticks alive at once
+     */
+    public long peakLiveSticks() {
+        return peakLiveSticks;
+    }
+
+    /**
+     * @return bytes allocated by the calling thread during the call, or -1 if unsupported
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return nanoseconds spent building the list or heap
+     */
+    public long buildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * @return nanoseconds spent in the merge loop
+     */
+    public long mergeNanos() {
+        return mergeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s: n=%d merges=%d comparisons=%d swaps=%d peakLive=%d allocated=%dB build=%.3fms merge=%.3fms",
+            engine, sticks, merges, comparisons, swaps, peakLiveSticks, allocatedBytes,
+            buildNanos / 1_000_000.0, mergeNanos / 1_000_000.0);
+    }
+
+    /**
+     * Start measuring a call: take the allocation and clock baselines, and start the JFR event
+     * if it is enabled so that its duration covers the whole call.
+     */
+    void begin(String engineName, int stickCount) {
+        engine = engineName;
+        sticks = stickCount;
+        event = null;
+        if (EVENT_TYPE.isEnabled()) {
+            event = new EngineCallEvent();
+            event.begin();
+        }
+        startAllocated = currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the end of the build phase and the start of the merge loop.
+     */
+    void buildDone() {
+        mergeStartNanos = System.nanoTime();
+        buildNanos = mergeStartNanos - startNanos;
+    }
+
+    /**
+     * Finish the call: record the engine's counters and commit the JFR event begin() started.
+     */
+    void end(long mergeCount, long comparisonCount, long swapCount, long peakLive) {
+        long now = System.nanoTime();
+        long allocatedNow = currentThreadAllocatedBytes();
+        mergeNanos = now - mergeStartNanos;
+        merges = mergeCount;
+        comparisons = comparisonCount;
+        swaps = swapCount;
+        peakLiveSticks = peakLive;
+        allocatedBytes = allocatedNow < 0 ? -1 : allocatedNow - startAllocated;
+
+        if (event != null) {
+            event.engine = engine;
+            event.sticks = sticks;
+            event.merges = merges;
+            event.comparisons = comparisons;
+            event.swaps = swaps;
+            event.peakLiveSticks = peakLiveSticks;
+            event.allocatedBytes = allocatedBytes;
+            event.buildNanos = buildNanos;
+            event.mergeNanos = mergeNanos;
+            event.commit();
+            event = null;
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return ALLOCATION_COUNTER == null ? -1 : ALLOCATION_COUNTER.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean counter
+                && counter.isThreadAllocatedMemorySupported()) {
+            if (!counter.isThreadAllocatedMemoryEnabled()) {
+                counter.setThreadAllocatedMemoryEnabled(true);
+            }
+            return counter;
+        }
+        return null;
+    }
+}
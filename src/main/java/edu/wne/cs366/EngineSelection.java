@@ -0,0 +1,114 @@
+package edu.wne.cs366;
+
+/**
+ * What {@link GreedyAlgorithms#connectSticks(int[])} found out about an input and which
+ * engine it picked for it.
+ *
+ * The statistics come from one O(n) scan (size, min, max, sortedness) plus a fixed-size sample
+ * (duplicate density), so collecting them costs far less than any engine run.
+ */
+public final class EngineSelection {
+
+    /** Engines the adaptive front door can dispatch to. */
+    public enum Engine {
+        /** Insertion sort plus an in-place two-queue merge, for a handful of sticks. */
+        TINY,
+        /** Bulk merge of (length, count) runs, for inputs dominated by repeated lengths. */
+        RUN_LENGTH,
+        /** Input already sorted (either direction): two-queue merge with no sort at all. */
+        SORTED,
+        /** Counting sort plus two-queue merge, for value ranges not much wider than n. */
+        COUNTING,
+        /** Comparison sort plus two-queue merge, the general case. */
+        TWO_QUEUE,
+        /** Fork-join presort plus two-queue merge, for millions of sticks on a multi-core machine. */
+        PARALLEL,
+        /** Primitive heap, for inputs containing negative lengths, where two-queue does not apply. */
+        HEAP
+    }
+
+    private final Engine engine;
+    private final int stickCount;
+    private final int min;
+    private final int max;
+    private final boolean ascending;
+    private final boolean descending;
+    private final double sampledDistinctRatio;
+
+    EngineSelection(Engine engine, int stickCount, int min, int max,
+                    boolean ascending, boolean descending, double sampledDistinctRatio) {
+        this.engine = engine;
+        this.stickCount = stickCount;
+        this.min = min;
+        this.max = max;
+        this.ascending = ascending;
+        this.descending = descending;
+        this.sampledDistinctRatio = sampledDistinctRatio;
+    }
+
+    /**
+     * @return the engine that was picked
+     */
+    public Engine engine() {
+        return engine;
+    }
+
+    /**
+     * @return number of sticks n
+     */
+    public int stickCount() {
+        return stickCount;
+    }
+
+    /**
+     * @return shortest stick length
+     */
+    public int min() {
+        return min;
+    }
+
+    /**
+     * @return longest stick length
+     */
+    public int max() {
+        return max;
+    }
+
+    /**
+     * @return number of distinct values min..max could take, max - min + 1
+     */
+    public long valueRange() {
+        return (long) max - min + 1;
+    }
+
+    /**
+     * @return true if the sticks are in non-decreasing order
+     */
+    public boolean ascending() {
+        return ascending;
+    }
+
+    /**
+     * @return true if the sticks are in non-increasing order
+     */
+    public boolean descending() {
+        return descending;
+    }
+
+    /**
+     * Estimate of duplicate density: distinct values divided by sample size, over an evenly
+     * spaced sample of the input. 1.0 means no duplicates were seen; values near 0 mean the
+     * input is dominated by a few repeated lengths.
+     *
+     * @return distinct ratio of the sample, in (0, 1]
+     */
+    public double sampledDistinctRatio() {
+        return sampledDistinctRatio;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (n=%d, range=[%d, %d], %s, distinct~%.2f)", engine, stickCount, min, max,
+            ascending ? "ascending" : descending ? "descending" : "unsorted", sampledDistinctRatio);
+    }
+}
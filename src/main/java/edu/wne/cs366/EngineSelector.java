@@ -0,0 +1,212 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Input sampling and dispatch behind {@link GreedyAlgorithms#connectSticks(int[])}.
+ *
+ * Thresholds come from EngineSelectionBenchmark (./gradlew jmh -PjmhInclude=EngineSelection),
+ * uniform random lengths in [1, 10^6]:
+ *
+ *   n      tiny     two-queue   primitive heap   (ns per call)
+ *   16       60        82           141
+ *   32      142       162           181
+ *   64      486       337           770
+ *   128    2116       883          6574
+ *
+ * so the tiny path stops paying off between 32 and 64 sticks. Counting sort against
+ * Arrays.sort (µs per sort, n = 10^6):
+ *
+ *   range   1n     4n     16n    32n    48n    64n
+ *   count   9.7k   14.6k  19.4k  34.7k  51.5k  70.1k
+ *   sort    46.9k  47.9k  47.1k  47.4k  48.4k  47.1k
+ *
+ * so the two cross over near 48n. COUNTING_RANGE_FACTOR is deliberately more conservative
+ * at 16n: there counting sort is still 2.4x faster, while its int[range] count array is
+ * already 16 times the size of a sorted copy. Going to 32n would double that array for a
+ * 1.4x gain. Run-length against the counting path (µs per call, n = 10^6):
+ *
+ *   range       n/4    n/8    n/16   n/32   n/64   n/256  50 values spread over [1, 10^9]
+ *   run-length  6.4k   3.9k   2.6k   1.8k   1.2k   0.6k   18.2k
+ *   counting    5.4k   3.8k   2.9k   2.5k   2.1k   1.7k   19.3k (comparison sort)
+ *
+ * The two tie at n/8, and run-length is only about 1.15x faster at n/16, 1.35x at n/32, 1.7x
+ * at n/64 and 3x at n/256, so bulk run merging is picked once each length repeats at least
+ * 32 times on average. It is also picked when the sample is dominated by a few lengths spread
+ * too wide for counting sort, where it saves the comparison sort. The heap engines never beat
+ * the two-queue engines on an in-memory array, so they are only picked when two-queue does
+ * not apply.
+ */
+final class EngineSelector {
+
+    /** Largest input sent to the insertion-sort path. */
+    static final int TINY_MAX_STICKS = 32;
+
+    /**
+     * Counting sort is used while the value range is at most this many times n; below the
+     * measured 48n crossover on purpose, to bound the count array (see the table above) ...
+     */
+    static final int COUNTING_RANGE_FACTOR = 16;
+
+    /** ... and the count array stays below this many entries (256 MB of ints). */
+    static final int COUNTING_MAX_RANGE = 1 << 26;
+
+    /** Run-length merging is used when each length repeats at least this often on average ... */
+    static final int RUN_LENGTH_MIN_REPEATS = 32;
+
+    /** ... or when at most this fraction of the sample is distinct. */
+    static final double RUN_LENGTH_MAX_DISTINCT_RATIO = 1.0 / 8;
+
+    /** Sticks inspected for the duplicate-density estimate. */
+    static final int SAMPLE_SIZE = 256;
+
+    private EngineSelector() {
+    }
+
+    /**
+     * Scan the input and pick an engine.
+     *
+     * @param sticks validated input, at least two sticks
+     * @return the statistics and the chosen engine
+     */
+    static EngineSelection select(int[] sticks) {
+        int n = sticks.length;
+        StickKernels.Scan scan = StickKernels.scan(sticks);
+        int min = scan.min;
+        int max = scan.max;
+        boolean ascending = scan.ascending;
+        boolean descending = scan.descending;
+        double distinctRatio = sampleDistinctRatio(sticks);
+        long range = (long) max - min + 1;
+
+        EngineSelection.Engine engine;
+        if (min < 0) {
+            engine = EngineSelection.Engine.HEAP;
+        } else if (n <= TINY_MAX_STICKS) {
+            engine = EngineSelection.Engine.TINY;
+        } else if (range * RUN_LENGTH_MIN_REPEATS <= n || distinctRatio <= RUN_LENGTH_MAX_DISTINCT_RATIO) {
+            engine = EngineSelection.Engine.RUN_LENGTH;
+        } else if (ascending || descending) {
+            engine = EngineSelection.Engine.SORTED;
+        } else if (n >= GreedyAlgorithms.PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            engine = EngineSelection.Engine.PARALLEL;
+        } else if (range <= (long) COUNTING_RANGE_FACTOR * n && range <= COUNTING_MAX_RANGE) {
+            engine = EngineSelection.Engine.COUNTING;
+        } else {
+            engine = EngineSelection.Engine.TWO_QUEUE;
+        }
+        return new EngineSelection(engine, n, min, max, ascending, descending, distinctRatio);
+    }
+
+    /**
+     * Run the engine picked by select().
+     *
+     * @param sticks the input select() was called on
+     * @param selection result of select(sticks)
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    static long run(int[] sticks, EngineSelection selection) {
+        switch (selection.engine()) {
+            case TINY:
+                return tiny(sticks);
+            case RUN_LENGTH:
+                return RunLengthMerge.cost(sticks);
+            case SORTED:
+                if (selection.ascending()) {
+                    return TwoQueueMerge.mergeSortedExact(sticks);
+                }
+                int[] reversed = new int[sticks.length];
+                for (int i = 0; i < sticks.length; i++) {
+                    reversed[i] = sticks[sticks.length - 1 - i];
+                }
+                return TwoQueueMerge.mergeSortedExact(reversed);
+            case COUNTING:
+                return TwoQueueMerge.mergeSortedExact(
+                    TwoQueueMerge.countingSort(sticks, selection.min(), (int) selection.valueRange()));
+            case PARALLEL:
+                return GreedyAlgorithms.connectSticksParallel(sticks);
+            case HEAP:
+                LongMinHeap heap = new LongMinHeap(sticks);
+                long totalCost = 0;
+                while (heap.size() > 1) {
+                    totalCost = Math.addExact(totalCost, heap.pollTwoAndOfferSumExact());
+                }
+                return totalCost;
+            default:
+                int[] sorted = sticks.clone();
+                Arrays.sort(sorted);
+                return TwoQueueMerge.mergeSortedExact(sorted);
+        }
+    }
+
+    /**
+     * Tiny-input path: insertion sort into a long[], then a two-queue merge that stores the sum
+     * of step s in slot s of the same array.
+     *
+     * That slot is always free: after step s, at most s earlier sums have been consumed, so at
+     * least s + 2 original sticks have been, and slot s is behind the next unread original.
+     * No allocation besides the one long[n].
+     *
+     * @param sticks non-negative stick lengths, at least two
+     * @return minimum total cost
+     */
+    static long tiny(int[] sticks) {
+        int n = sticks.length;
+        long[] a = new long[n];
+        for (int i = 0; i < n; i++) {
+            long stick = sticks[i];
+            int j = i - 1;
+            while (j >= 0 && a[j] > stick) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = stick;
+        }
+
+        // Originals are read from a[next..n), sums from a[head..step)
+        int next = 0;
+        int head = 0;
+        long totalCost = 0;
+        for (int step = 0; step < n - 1; step++) {
+            long first;
+            if (next < n && (head == step || a[next] <= a[head])) {
+                first = a[next++];
+            } else {
+                first = a[head++];
+            }
+            long second;
+            if (next < n && (head == step || a[next] <= a[head])) {
+                second = a[next++];
+            } else {
+                second = a[head++];
+            }
+
+            long cost = first + second;
+            a[step] = cost;
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * Distinct values divided by sample size, over up to SAMPLE_SIZE evenly spaced sticks.
+     */
+    private static double sampleDistinctRatio(int[] sticks) {
+        int size = Math.min(SAMPLE_SIZE, sticks.length);
+        int[] sample = new int[size];
+        long stride = sticks.length / size;
+        for (int i = 0; i < size; i++) {
+            sample[i] = sticks[(int) (i * stride)];
+        }
+        Arrays.sort(sample);
+        int distinct = 1;
+        for (int i = 1; i < size; i++) {
+            if (sample[i] != sample[i - 1]) {
+                distinct++;
+            }
+        }
+        return (double) distinct / size;
+    }
+}
@@ -1,8 +1,11 @@
 package edu.wne.cs366;
 
+import java.math.BigInteger;
 import java.util.PriorityQueue;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 /**
  * CS366 - PA4: Greedy Algorithms - Minimum Cost to Connect Sticks
@@ -12,6 +15,43 @@ import java.util.List;
  *   1. Greedy Naive: O(n²) using unsorted ArrayList (linear scans for minimums)
  *   2. Greedy Optimized: O(n log n) using PriorityQueue/heap (efficient minimum extraction)
  *
+ * Additional engines built on the same greedy strategy:
+ *   - Primitive Heap: O(n log n) using a boxing-free long[] heap (LongMinHeap)
+ *   - D-ary Heap: the primitive heap with 2-16 children per node in cache-line-sized groups
+ *   - Two-Queue: O(n) for bounded ranges using a sorted queue plus a FIFO of merged sums
+ *   - Parallel: two-queue merge after a fork-join presort, for inputs of millions of sticks
+ *   - Streaming: merges a memory-mapped StickFile that may be larger than the heap
+ *   - Pipelined: reads, sorts and merges a StickFile at the same time, on worker threads
+ *     connected to the merge thread by lock-free ring buffers
+ *   - Off-Heap: radix sort plus in-place two-queue merge in native memory (OffHeapSticks),
+ *     for more than 2^31 - 1 sticks and no GC pressure; it needs --enable-preview on Java 21,
+ *     so it lives in its own source set behind OffHeapAlgorithms
+ *   - Run-Length: O(d log n) merge of (length, count) runs for inputs with d distinct lengths,
+ *     also callable straight from a histogram via connectSticksHistogram()
+ *   - K-ary: joins up to k sticks per step (k-ary Huffman with zero-length padding) on the
+ *     two-queue technique, via connectSticksKary()
+ *
+ * connectSticks() is the front door: it inspects the input and dispatches to whichever engine
+ * suits it best, so callers do not have to choose.
+ *
+ * connectSticksReference() is a leaner O(n²) engine kept as the oracle the fast engines are
+ * checked against; ShadowVerifier runs those checks on live traffic within a CPU budget.
+ *
+ * ResultCache sits in front of any engine and answers repeated instances, in any order of
+ * sticks, from an LRU cache keyed by a one-pass multiset fingerprint.
+ *
+ * StickInventory is a mutable multiset of sticks for long-lived inventories: add() and
+ * remove() update sorted (length, count) runs, and cost() re-merges only the runs.
+ *
+ * SolverServer serves the engines from a long-running process over a local socket, solving
+ * concurrent requests in micro-batches; SolverClient is its client (main(): --serve, --load).
+ *
+ * connectSticksUntil() and connectSticksWithinBudget() stop early, at a stick count or a cost
+ * budget, and return a MergeSession that holds the remaining sticks and can be resumed later.
+ *
+ * Every engine also has a 64-bit "...Long" variant taking long[] and returning long, which fails
+ * fast on overflow, and connectSticksExact() falls back to BigInteger instead of failing.
+ *
  * This demonstrates how data structure selection dramatically affects performance even when
  * the underlying algorithm (greedy strategy) remains identical.
  *
@@ -59,19 +99,43 @@ public class GreedyAlgorithms {
      * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
      */
     public static int connectSticksNaive(int[] sticks) {
-        // TODO: Implement greedy naive approach with UNSORTED ArrayList
-        // 1. Validate input (null check, length check)
-        // 2. Copy sticks to ArrayList for dynamic removal (keep UNSORTED)
-        // 3. Loop while more than 1 stick remains:
-        //    a. Find index of first minimum via LINEAR SCAN through unsorted list
-        //    b. Find index of second minimum (excluding first) via LINEAR SCAN
-        //    c. Calculate cost (sum of two minimums)
-        //    d. Remove the two sticks (remove larger index first!)
-        //    e. Add their sum back to the list (append to end - keep UNSORTED!)
-        //    f. Add cost to total
-        // 4. Return total cost
+        validateSticks(sticks);
+
+        // Copy sticks into an UNSORTED list for dynamic removal
+        List<Integer> list = new ArrayList<>(sticks.length);
+        for (int stick : sticks) {
+            list.add(stick);
+        }
+
+        int totalCost = 0;
+        while (list.size() > 1) {
+            // Linear scan for the first minimum
+            int first = 0;
+            for (int i = 1; i < list.size(); i++) {
+                if (list.get(i) < list.get(first)) {
+                    first = i;
+                }
+            }
+
+            // Linear scan for the second minimum, skipping the first
+            int second = -1;
+            for (int i = 0; i < list.size(); i++) {
+                if (i != first && (second == -1 || list.get(i) < list.get(second))) {
+                    second = i;
+                }
+            }
 
-        throw new UnsupportedOperationException("TODO: Implement connectSticksNaive");
+            int cost = list.get(first) + list.get(second);
+
+            // Remove the larger index first so the smaller index stays valid
+            list.remove(Math.max(first, second));
+            list.remove(Math.min(first, second));
+
+            // Append the merged stick to the end - the list stays UNSORTED
+            list.add(cost);
+            totalCost += cost;
+        }
+        return totalCost;
     }
 
     /**
@@ -101,35 +165,897 @@ public class GreedyAlgorithms {
      * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
      */
     public static int connectSticksHeap(int[] sticks) {
-        // TODO: Implement heap-based approach
-        // 1. Validate input (null check, length check)
-        // 2. Create PriorityQueue<Integer> (min-heap by default)
-        // 3. Add all sticks to the heap
-        // 4. Loop while heap size > 1:
-        //    a. Extract first minimum (poll())
-        //    b. Extract second minimum (poll())
-        //    c. Calculate cost (sum of two minimums)
-        //    d. Add their sum back to heap (offer())
-        //    e. Add cost to total
-        // 5. Return total cost
+        validateSticks(sticks);
+
+        PriorityQueue<Integer> heap = new PriorityQueue<>(sticks.length);
+        for (int stick : sticks) {
+            heap.offer(stick);
+        }
+
+        int totalCost = 0;
+        while (heap.size() > 1) {
+            int cost = heap.poll() + heap.poll();
+            heap.offer(cost);
+            totalCost += cost;
+        }
+        return totalCost;
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks using a PRIMITIVE min-heap.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach:
+     * - Same heap idea as connectSticksHeap(), but backed by a plain long[] (see LongMinHeap)
+     *   instead of PriorityQueue<Integer>, so no stick or merged sum is ever boxed
+     * - Build heap bottom-up from the input array: O(n)
+     * - Each iteration is one fused "pop two, push sum" step: the second minimum is replaced
+     *   in place by the sum, so only two sift-downs are needed instead of three heap operations
+     * - The merge loop allocates nothing; the only allocation is the heap's backing array
+     *
+     * Time Complexity: O(n log n)
+     * - Build heap: O(n)
+     * - n-1 iterations, each O(log n)
+     *
+     * Space Complexity: O(n) - one long[] of n elements
+     *
+     * Returns exactly the same cost as connectSticksHeap() whenever the total fits in an int.
+     *
+     * @param sticks array of stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     */
+    public static int connectSticksPrimitiveHeap(int[] sticks) {
+        validateSticks(sticks);
+
+        LongMinHeap heap = new LongMinHeap(sticks);
+        long totalCost = 0;
+        while (heap.size() > 1) {
+            totalCost += heap.pollTwoAndOfferSum();
+        }
+        return (int) totalCost;
+    }
+
+    /**
+     * Default arity of connectSticksDaryHeap(int[]): 8 children of 8 bytes, one 64-byte cache line.
+     */
+    public static final int DEFAULT_HEAP_ARITY = 8;
+
+    /**
+     * connectSticksDaryHeap(int[], int) with DEFAULT_HEAP_ARITY children per node.
+     *
+     * @param sticks array of stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksDaryHeap(int[] sticks) {
+        return connectSticksDaryHeap(sticks, DEFAULT_HEAP_ARITY);
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks using a primitive D-ARY min-heap.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach:
+     * - Same as connectSticksPrimitiveHeap(), but every node has `arity` children (see DaryMinHeap)
+     * - A pop walks log_d(n) levels instead of log2(n); each level scans d adjacent children,
+     *   which share a cache line, so large heaps take far fewer cache misses
+     * - Child groups are aligned to multiples of d within the array
+     *
+     * Time Complexity: O(n d log_d n)
+     * - Build heap: O(n)
+     * - n-1 iterations, each two sift-downs of O(d log_d n) comparisons
+     *
+     * Space Complexity: O(n) - one long[] of n + d - 1 elements
+     *
+     * Arity 2 matches the primitive heap; 4 and 8 pay off once the heap outgrows the caches
+     * (see DaryHeapBenchmark).
+     *
+     * @param sticks array of stick lengths
+     * @param arity children per node: 2, 4, 8 or 16
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *         or arity is not one of the supported values
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksDaryHeap(int[] sticks, int arity) {
+        validateSticks(sticks);
+        if (!DaryMinHeap.isSupportedArity(arity)) {
+            throw new IllegalArgumentException("Arity must be 2, 4, 8 or 16, got " + arity);
+        }
+
+        DaryMinHeap heap = new DaryMinHeap(sticks, arity);
+        long totalCost = 0;
+        while (heap.size() > 1) {
+            totalCost = Math.addExact(totalCost, heap.pollTwoAndOfferSumExact());
+        }
+        return totalCost;
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks using the TWO-QUEUE approach.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (classic two-queue Huffman technique, see TwoQueueMerge):
+     * - Sort the sticks once; they form the first queue
+     * - Merged sums go into a second FIFO queue. Because the greedy algorithm combines the
+     *   smallest sticks first, the sums come out in non-decreasing order, so the FIFO is sorted too
+     * - Each iteration: the two smallest sticks are at the heads of the two queues - O(1)
+     *
+     * Time Complexity:
+     * - Sort: O(n) via counting sort when the value range is at most n (e.g. lengths 1..100),
+     *   O(n log n) via Arrays.sort otherwise
+     * - n-1 iterations, each O(1)
+     * - Total: O(n) for bounded ranges, O(n log n) in general
+     *
+     * Space Complexity: O(n) for the sorted copy and the FIFO of merged sums
+     *
+     * Returns exactly the same cost as connectSticksHeap() whenever the total fits in an int.
+     *
+     * @param sticks array of stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     */
+    public static int connectSticksTwoQueue(int[] sticks) {
+        validateSticks(sticks);
+
+        int[] sorted = TwoQueueMerge.sortedCopy(sticks);
+        return (int) TwoQueueMerge.mergeSortedExact(sorted);
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks when up to k sticks can be joined at once.
+     *
+     * A join of any number of sticks costs the sum of their lengths, so joining more sticks per
+     * step means each length is paid for fewer times.
+     *
+     * Greedy Strategy: Always combine the k smallest sticks (k-ary Huffman).
+     *
+     * Implementation Approach (see TwoQueueMerge.mergeSortedKaryExact):
+     * - Pad with zero-length dummies until (n - 1) is a multiple of (k - 1), as optimal k-ary
+     *   Huffman does; the dummies are never stored, the first step just joins fewer real sticks
+     * - Sort once, then take the k smallest from the heads of the sorted sticks and the FIFO
+     *   of merged sums, as in connectSticksTwoQueue()
+     *
+     * Time Complexity:
+     * - Sort: O(n) for bounded ranges, O(n log n) otherwise (as connectSticksTwoQueue())
+     * - About (n - 1) / (k - 1) steps, each O(k): O(n) in total for any k
+     *
+     * Space Complexity: O(n) for the sorted copy, plus O(n / k) for the FIFO of merged sums
+     *
+     * With k = 2 the result equals connectSticksTwoQueue() and the other pairwise engines;
+     * with k &gt;= n it is the sum of all sticks (see KaryBenchmark).
+     *
+     * @param sticks array of stick lengths
+     * @param k maximum number of sticks joined per step, at least 2
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *         or k is less than 2
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksKary(int[] sticks, int k) {
+        validateSticks(sticks);
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2, got " + k);
+        }
+
+        int[] sorted = TwoQueueMerge.sortedCopy(sticks);
+        return TwoQueueMerge.mergeSortedKaryExact(sorted, k);
+    }
+
+    /**
+     * Instrumented connectSticksNaive(): same result, and fills in metrics with the merges, the
+     * comparisons made by the linear scans, the elements shifted by ArrayList.remove() (as swaps),
+     * the bytes allocated and the build / merge-loop timings. See EngineMetrics.
+     *
+     * @param sticks array of stick lengths
+     * @param metrics receives the measurements of this call; may be reused across calls
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *         or metrics is null
+     */
+    public static int connectSticksNaive(int[] sticks, EngineMetrics metrics) {
+        validateSticks(sticks);
+        validateMetrics(metrics);
+        return InstrumentedEngines.naive(sticks, metrics);
+    }
+
+    /**
+     * Instrumented connectSticksHeap(): same result, and fills in metrics. Comparisons are
+     * counted through the queue's comparator; PriorityQueue does not expose its element moves,
+     * so swaps is reported as -1.
+     *
+     * @param sticks array of stick lengths
+     * @param metrics receives the measurements of this call; may be reused across calls
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *         or metrics is null
+     */
+    public static int connectSticksHeap(int[] sticks, EngineMetrics metrics) {
+        validateSticks(sticks);
+        validateMetrics(metrics);
+        return InstrumentedEngines.heap(sticks, metrics);
+    }
+
+    /**
+     * Instrumented connectSticksPrimitiveHeap(): same result, and fills in metrics, including
+     * every sift comparison and swap (heapify included).
+     *
+     * @param sticks array of stick lengths
+     * @param metrics receives the measurements of this call; may be reused across calls
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *         or metrics is null
+     */
+    public static int connectSticksPrimitiveHeap(int[] sticks, EngineMetrics metrics) {
+        validateSticks(sticks);
+        validateMetrics(metrics);
+        return InstrumentedEngines.primitiveHeap(sticks, metrics);
+    }
+
+    /**
+     * Default input size below which connectSticksParallel() runs the sequential two-queue engine.
+     * Below about a million sticks the fork-join overhead outweighs the parallel presort.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /**
+     * Calculate minimum cost to connect all sticks using a PARALLEL presort on the common pool.
+     *
+     * Same as connectSticksParallel(sticks, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD).
+     *
+     * @param sticks array of stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksParallel(int[] sticks) {
+        return connectSticksParallel(sticks, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks using a PARALLEL presort.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (see ParallelStickSort):
+     * - Sort phase, parallel on the given pool: a fork-join counting sort when the value range is
+     *   small, otherwise Arrays.parallelSort run inside the pool
+     * - Merge phase, sequential: the two-queue merge. It only ever reads the sorted array and the
+     *   FIFO of sums front to back, so it streams through memory with no random access
+     * - Inputs shorter than sequentialThreshold skip the pool and run the sequential two-queue engine
+     *
+     * Time Complexity:
+     * - Sort: O(n / p) for small ranges, O((n log n) / p) otherwise, with p worker threads
+     * - Merge: O(n)
+     *
+     * Space Complexity: O(n) for the sorted copy and the FIFO of merged sums
+     *
+     * @param sticks array of stick lengths
+     * @param pool pool that runs the parallel sort
+     * @param sequentialThreshold inputs with fewer sticks than this are solved sequentially
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *                                  or pool is null
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksParallel(int[] sticks, ForkJoinPool pool, int sequentialThreshold) {
+        validateSticks(sticks);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+
+        int[] sorted = sticks.length < sequentialThreshold || pool.getParallelism() == 1
+            ? TwoQueueMerge.sortedCopy(sticks)
+            : ParallelStickSort.sortedCopy(sticks, pool);
+        return TwoQueueMerge.mergeSortedExact(sorted);
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks, picking the engine from the input itself.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (see EngineSelector):
+     * - One O(n) scan collects size, min, max and sortedness; a fixed-size sample estimates
+     *   duplicate density
+     * - Dispatch, first match wins:
+     *   negative lengths          -> primitive heap (the two-queue ordering needs lengths >= 0)
+     *   n <= 32                   -> insertion sort plus in-place two-queue merge
+     *   range <= n / 8, or sample
+     *   mostly repeated lengths   -> run-length merge of (length, count) runs
+     *   already sorted            -> two-queue merge with no sort
+     *   n >= PARALLEL_THRESHOLD   -> fork-join presort, when more than one core is available
+     *   range <= 16n              -> counting sort plus two-queue merge
+     *   otherwise                 -> Arrays.sort plus two-queue merge
+     * - The thresholds come from EngineSelectionBenchmark; see EngineSelector for the numbers
+     *
+     * Time Complexity: O(n) scan, then O(n) or O(n log n) depending on the engine picked
+     * Space Complexity: O(n) for the engines that sort a copy; O(1) extra for sorted input
+     * beyond the FIFO of merged sums
+     *
+     * @param sticks array of stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticks(int[] sticks) {
+        return connectSticks(sticks, selection -> { });
+    }
+
+    /**
+     * Same as connectSticks(int[]), reporting the engine decision to a listener before running it.
+     *
+     * Use it to log or count which engine production inputs end up on, e.g.
+     * connectSticks(sticks, s -> log.debug("connectSticks: {}", s)).
+     *
+     * @param sticks array of stick lengths
+     * @param listener receives the input statistics and the chosen engine
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *                                  or listener is null
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticks(int[] sticks, Consumer<? super EngineSelection> listener) {
+        validateSticks(sticks);
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+
+        EngineSelection selection = EngineSelector.select(sticks);
+        listener.accept(selection);
+        return EngineSelector.run(sticks, selection);
+    }
+
+    /**
+     * Report which engine connectSticks(int[]) would use for this input, without running it.
+     *
+     * @param sticks array of stick lengths
+     * @return the input statistics and the chosen engine
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     */
+    public static EngineSelection selectEngine(int[] sticks) {
+        validateSticks(sticks);
+        return EngineSelector.select(sticks);
+    }
+
+    /**
+     * Calculate minimum cost to connect all sticks by merging RUNS of equal sticks in bulk.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (see RunLengthMerge):
+     * - Collapse the input into (length, count) runs: a dense count array for small value
+     *   ranges, otherwise a sort of a copy
+     * - Two-queue merge over runs: all c sticks of the smallest length v are paired at once,
+     *   adding (c / 2) * 2v to the cost and queuing a single run of c / 2 sticks of length 2v;
+     *   an odd leftover joins the next smallest stick
+     *
+     * Time Complexity: O(n) to count (O(n log n) for wide value ranges), then O(d log n) for
+     * the merge with d distinct lengths - e.g. generateRandomSticks(n, 1, 100) has d <= 100
+     * Space Complexity: O(d) for the runs, plus O(range) or O(n) to build them
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksRunLength(int[] sticks) {
+        validateSticks(sticks);
+        for (int stick : sticks) {
+            if (stick < 0) {
+                throw new IllegalArgumentException("Stick lengths must not be negative, got " + stick);
+            }
+        }
+
+        return RunLengthMerge.cost(sticks);
+    }
+
+    /**
+     * Calculate minimum cost from a histogram, without ever materializing the sticks.
+     *
+     * There are counts[i] sticks of length lengths[i]. Lengths may come in any order and may
+     * repeat (their counts are added up); zero counts are ignored. Same merge as
+     * connectSticksRunLength().
+     *
+     * Time Complexity: O(d log n) for d distinct lengths already in ascending order,
+     * plus O(d log d) to sort them otherwise
+     * Space Complexity: O(d)
+     *
+     * @param lengths stick lengths
+     * @param counts number of sticks of each length
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if either array is null, their sizes differ, any length or
+     *                                  count is negative, or there are fewer than 2 sticks in total
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksHistogram(long[] lengths, long[] counts) {
+        if (lengths == null || counts == null) {
+            throw new IllegalArgumentException("Lengths and counts must not be null");
+        }
+        if (lengths.length != counts.length) {
+            throw new IllegalArgumentException(
+                "Got " + lengths.length + " lengths but " + counts.length + " counts");
+        }
+        long total = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            if (lengths[i] < 0 || counts[i] < 0) {
+                throw new IllegalArgumentException(
+                    "Lengths and counts must not be negative, got " + counts[i] + " x " + lengths[i]);
+            }
+            total += counts[i];
+            if (total < 0) {
+                throw new IllegalArgumentException("Total stick count overflows a long");
+            }
+        }
+        if (total < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + total);
+        }
+
+        return RunLengthMerge.mergeUnordered(lengths, counts);
+    }
+
+    /**
+     * Calculate minimum cost from a dense histogram: countByLength[len] sticks of length len.
+     *
+     * Convenient for small length ranges, e.g. a long[101] for lengths 1..100.
+     *
+     * @param countByLength number of sticks of each length, indexed by length
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if countByLength is null, any count is negative,
+     *                                  or there are fewer than 2 sticks in total
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksHistogram(long[] countByLength) {
+        if (countByLength == null) {
+            throw new IllegalArgumentException("Histogram must not be null");
+        }
+        long total = 0;
+        for (int len = 0; len < countByLength.length; len++) {
+            if (countByLength[len] < 0) {
+                throw new IllegalArgumentException("Count for length " + len + " is negative: " + countByLength[len]);
+            }
+            total += countByLength[len];
+            if (total < 0) {
+                throw new IllegalArgumentException("Total stick count overflows a long");
+            }
+        }
+        if (total < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + total);
+        }
+
+        return RunLengthMerge.mergeDense(countByLength, 0);
+    }
+
+    /**
+     * Calculate minimum cost AND the merge order that achieves it.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (two-queue technique, see TwoQueueMerge.planSorted()):
+     * - Sort the sticks as packed (length, original index) longs, so each sorted stick still
+     *   knows its id
+     * - Run the two-queue merge, writing each step's two stick ids and sum into flat arrays
+     * - The FIFO of merged sums IS the plan's sum array, so recording the plan costs no extra
+     *   queue storage
+     *
+     * Time Complexity: O(n) for value ranges of at most n, O(n log n) otherwise
+     * Space Complexity: O(n) primitives - one long per stick for sorting, plus two ints and one
+     * long per step; no per-node objects
+     *
+     * @param sticks array of stick lengths
+     * @return the merge plan; MergePlan.cost() is the minimum total cost
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static MergePlan connectSticksWithPlan(int[] sticks) {
+        validateSticks(sticks);
 
-        throw new UnsupportedOperationException("TODO: Implement connectSticksHeap");
+        long[] packed = TwoQueueMerge.sortedWithIds(sticks);
+        return TwoQueueMerge.planSorted(packed);
     }
 
     /**
-     * Compare the performance of Greedy Naive vs Greedy Optimized approaches empirically.
+     * Start a greedy merge that has not performed any step yet. Drive it with
+     * MergeSession.mergeUntil(), mergeWithinBudget() and finish(); see MergeSession.
      *
-     * This method runs both implementations on the same input and measures their execution times,
-     * demonstrating the practical difference between O(n²) and O(n log n) complexity when
-     * using different data structures for the SAME greedy algorithm.
+     * Time Complexity: O(n) to build the session's primitive heap, then O(log n) per step
+     *
+     * @param sticks array of stick lengths; copied, not modified
+     * @return a session holding all n sticks at cost 0
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     */
+    public static MergeSession mergeSession(int[] sticks) {
+        validateSticks(sticks);
+        return new MergeSession(sticks);
+    }
+
+    /**
+     * Greedily merge until at most maxSticks sticks remain, skipping the rest of the work.
+     *
+     * Implementation Approach:
+     * - Same fused heap loop as connectSticksPrimitiveHeap(), stopped after n - maxSticks steps
+     * - The returned session holds the remaining sticks and the cost so far, and can be resumed
+     *   without rebuilding the heap
+     *
+     * Time Complexity: O(n + (n - maxSticks) log n)
+     *
+     * @param sticks array of stick lengths
+     * @param maxSticks number of sticks to stop at, at least 1; 1 performs the full merge
+     * @return the session after the merges; MergeSession.cost() is the cost so far
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements,
+     *         or maxSticks is less than 1
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static MergeSession connectSticksUntil(int[] sticks, int maxSticks) {
+        MergeSession session = mergeSession(sticks);
+        session.mergeUntil(maxSticks);
+        return session;
+    }
+
+    /**
+     * Greedily merge as long as the cumulative cost stays within budget, skipping the rest.
+     *
+     * Stops before the first step that would take the total cost above budget. With
+     * non-negative lengths, step costs never decrease, so no later step could fit either.
+     *
+     * Time Complexity: O(n + k log n) for k merges performed
+     *
+     * @param sticks array of stick lengths
+     * @param budget largest total cost allowed
+     * @return the session after the merges; MergeSession.cost() is at most budget
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static MergeSession connectSticksWithinBudget(int[] sticks, long budget) {
+        MergeSession session = mergeSession(sticks);
+        session.mergeWithinBudget(budget);
+        return session;
+    }
+
+    /**
+     * Calculate minimum cost for a memory-mapped stick file, which may be larger than the heap.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (see MappedStickMerge):
+     * - Two-queue merge on a sorted feed: at most two original sticks are live at once, and the
+     *   FIFO of merged sums is kept in a memory-mapped scratch file rather than on the heap
+     * - Sorted files are fed straight from the mapping
+     * - Unsorted files are read in a few sequential passes: a histogram of the lengths splits
+     *   them into length ranges small enough to sort on the heap, and the ranges are fed in
+     *   increasing order
+     * - The partition size is a quarter of the heap, measured in 8-byte sticks
+     *
+     * Time Complexity: O(n) merging for a sorted file; an unsorted file split into p partitions
+     * adds O(n * p) sequential reading and O(n log n) partition sorting
+     * Space Complexity: O(partition) on the heap; the file and the FIFO stay in the page cache
+     *
+     * @param file open stick file
+     * @return minimum total cost
+     * @throws IllegalArgumentException if file is null, holds fewer than 2 sticks,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksStreaming(StickFile file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Stick file must not be null");
+        }
+        long chunkSticks = Runtime.getRuntime().maxMemory() / 4 / Long.BYTES;
+        return MappedStickMerge.cost(file, (int) Math.min(chunkSticks, Integer.MAX_VALUE - 8));
+    }
+
+    /**
+     * Calculate minimum cost for a stick file, reading and sorting it on worker threads while
+     * the calling thread merges.
+     *
+     * Same as connectSticksPipelined(file, workers) with one worker per core except the one
+     * that merges, and at least one.
+     *
+     * @param file open stick file
+     * @return minimum total cost
+     * @throws IllegalArgumentException if file is null, holds fewer than 2 sticks,
+     *                                  or contains a negative length
+     * @throws IllegalStateException if the file holds too many sticks for an array
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksPipelined(StickFile file) {
+        return connectSticksPipelined(file, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Calculate minimum cost for a stick file, reading and sorting it on worker threads while
+     * the calling thread merges.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (see PipelinedMerge):
+     * - The file is split into one slice per worker; each worker copies its slice out of the
+     *   mapping and sorts it into a sorted run
+     * - Each run is streamed to the calling thread through its own bounded lock-free
+     *   single-producer single-consumer ring (SpscLongRing)
+     * - The calling thread merges the run heads k ways and feeds the result straight into the
+     *   two-queue merge, so no global sorted array is built
+     * - A file flagged as sorted is streamed by a single worker with no sort, so reading and
+     *   merging overlap completely
+     *
+     * Time Complexity: O(n log(n / k) / k) reading and sorting on k workers, then O(n log k)
+     * merging; about max(read, merge) for a sorted file
+     * Space Complexity: O(n) - the sorted runs, the FIFO of merged sums, and a ring per worker
+     *
+     * @param file open stick file
+     * @param workers number of threads that read and sort, at least 1
+     * @return minimum total cost
+     * @throws IllegalArgumentException if file is null, holds fewer than 2 sticks,
+     *                                  contains a negative length, or workers is less than 1
+     * @throws IllegalStateException if the file holds too many sticks for an array
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksPipelined(StickFile file, int workers) {
+        if (file == null) {
+            throw new IllegalArgumentException("Stick file must not be null");
+        }
+        if (file.count() < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + file.count());
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required, got " + workers);
+        }
+        return PipelinedMerge.cost(file, workers);
+    }
+
+    /**
+     * Solve many independent instances concurrently and return their costs in input order.
+     *
+     * Runs a short-lived BatchSolver on virtual threads, one worker per core. Callers that
+     * submit batches continuously should keep their own BatchSolver (virtual threads or a
+     * fixed platform pool) open instead.
+     *
+     * @param instances stick arrays, each with at least two sticks
+     * @return costs[i] is the minimum cost to connect instances[i]
+     * @throws IllegalArgumentException if instances is null or any instance is null or has
+     *                                  less than 2 elements
+     * @throws ArithmeticException if any cost does not fit in a long
+     */
+    public static long[] solveBatch(int[][] instances) {
+        try (BatchSolver solver = BatchSolver.virtualThreads()) {
+            return solver.solve(instances);
+        }
+    }
+
+    /**
+     * Solve many independent instances concurrently and return their costs in input order.
+     *
+     * @param instances stick arrays, each with at least two sticks
+     * @return costs[i] is the minimum cost to connect instances.get(i)
+     * @throws IllegalArgumentException if instances is null or any instance is null or has
+     *                                  less than 2 elements
+     * @throws ArithmeticException if any cost does not fit in a long
+     * @see #solveBatch(int[][])
+     */
+    public static long[] solveBatch(List<int[]> instances) {
+        try (BatchSolver solver = BatchSolver.virtualThreads()) {
+            return solver.solve(instances);
+        }
+    }
+
+    /**
+     * 64-bit version of connectSticksNaive(): same unsorted-list algorithm, long inputs and cost.
+     *
+     * Overflow is never silent: every merged stick and the running total are computed with
+     * Math.addExact, which fails fast with an ArithmeticException. For in-range inputs the check
+     * is a single branch on the CPU overflow flag. Use connectSticksExact() for a BigInteger
+     * fallback instead of an exception.
+     *
+     * Time Complexity: O(n²)
+     * Space Complexity: O(n)
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksNaiveLong(long[] sticks) {
+        validateSticks(sticks);
+
+        List<Long> list = new ArrayList<>(sticks.length);
+        for (long stick : sticks) {
+            list.add(stick);
+        }
+
+        long totalCost = 0;
+        while (list.size() > 1) {
+            int first = 0;
+            for (int i = 1; i < list.size(); i++) {
+                if (list.get(i) < list.get(first)) {
+                    first = i;
+                }
+            }
+
+            int second = -1;
+            for (int i = 0; i < list.size(); i++) {
+                if (i != first && (second == -1 || list.get(i) < list.get(second))) {
+                    second = i;
+                }
+            }
+
+            long cost = Math.addExact(list.get(first), list.get(second));
+
+            list.remove(Math.max(first, second));
+            list.remove(Math.min(first, second));
+
+            list.add(cost);
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * Largest input connectSticksReference() accepts.
+     */
+    public static final int REFERENCE_MAX_STICKS = ReferenceMerge.MAX_STICKS;
+
+    /**
+     * Reference O(n²) engine, used as the oracle that faster engines are checked against
+     * (see ShadowVerifier).
+     *
+     * Implementation Approach (see ReferenceMerge):
+     * - The naive linear-scan algorithm, with its incidental costs removed: one scan finds both
+     *   minimums, sticks stay unboxed in a long[], and removal swaps the last stick into the
+     *   hole instead of shifting the array
+     * - Inputs are capped at REFERENCE_MAX_STICKS so a call can never run for minutes
+     *
+     * Time Complexity: O(n²) - about n²/2 comparisons, no element shifts
+     * Space Complexity: O(n) - one long[] copy
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *         contains a negative length, or has more than REFERENCE_MAX_STICKS elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksReference(long[] sticks) {
+        validateSticks(sticks);
+        if (sticks.length > REFERENCE_MAX_STICKS) {
+            throw new IllegalArgumentException("The reference engine is O(n²) and takes at most "
+                + REFERENCE_MAX_STICKS + " sticks, got " + sticks.length);
+        }
+        return ReferenceMerge.cost(sticks);
+    }
+
+    /**
+     * 64-bit version of connectSticksHeap(): PriorityQueue&lt;Long&gt;, long inputs and cost.
+     *
+     * Fails fast with an ArithmeticException on overflow (see connectSticksNaiveLong()).
+     *
+     * Time Complexity: O(n log n)
+     * Space Complexity: O(n)
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksHeapLong(long[] sticks) {
+        validateSticks(sticks);
+
+        PriorityQueue<Long> heap = new PriorityQueue<>(sticks.length);
+        for (long stick : sticks) {
+            heap.offer(stick);
+        }
+
+        long totalCost = 0;
+        while (heap.size() > 1) {
+            long cost = Math.addExact(heap.poll(), heap.poll());
+            heap.offer(cost);
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * 64-bit version of connectSticksPrimitiveHeap(): long[] heap, long inputs and cost.
+     *
+     * Fails fast with an ArithmeticException on overflow (see connectSticksNaiveLong()).
+     * Like the int version, the merge loop allocates nothing.
+     *
+     * Time Complexity: O(n log n)
+     * Space Complexity: O(n)
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksPrimitiveHeapLong(long[] sticks) {
+        validateSticks(sticks);
+
+        LongMinHeap heap = new LongMinHeap(sticks);
+        long totalCost = 0;
+        while (heap.size() > 1) {
+            totalCost = Math.addExact(totalCost, heap.pollTwoAndOfferSumExact());
+        }
+        return totalCost;
+    }
+
+    /**
+     * 64-bit version of connectSticksTwoQueue(): sorted queue plus FIFO, long inputs and cost.
+     *
+     * Fails fast with an ArithmeticException on overflow (see connectSticksNaiveLong()).
+     *
+     * Time Complexity: O(n) for value ranges of at most n, O(n log n) otherwise
+     * Space Complexity: O(n)
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksTwoQueueLong(long[] sticks) {
+        validateSticks(sticks);
+
+        long[] sorted = TwoQueueMerge.sortedCopy(sticks);
+        return TwoQueueMerge.mergeSortedExact(sorted);
+    }
+
+    /**
+     * Calculate the exact minimum cost, falling back to BigInteger when a long would overflow.
+     *
+     * Runs connectSticksPrimitiveHeapLong() first. Only if that detects an overflow is the
+     * instance recomputed with a PriorityQueue&lt;BigInteger&gt;, so in-range inputs pay nothing
+     * extra. The returned StickCost reports which path was taken via path().
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return the exact minimum total cost, tagged with the arithmetic path used
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     */
+    public static StickCost connectSticksExact(long[] sticks) {
+        try {
+            return StickCost.ofLong(connectSticksPrimitiveHeapLong(sticks));
+        } catch (ArithmeticException overflow) {
+            PriorityQueue<BigInteger> heap = new PriorityQueue<>(sticks.length);
+            for (long stick : sticks) {
+                heap.offer(BigInteger.valueOf(stick));
+            }
+
+            BigInteger totalCost = BigInteger.ZERO;
+            while (heap.size() > 1) {
+                BigInteger cost = heap.poll().add(heap.poll());
+                heap.offer(cost);
+                totalCost = totalCost.add(cost);
+            }
+            return StickCost.ofBigInteger(totalCost);
+        }
+    }
+
+    /**
+     * Compare the performance of Greedy Naive vs Greedy Optimized vs Two-Queue approaches empirically.
+     *
+     * This method runs the implementations on the same input and measures their execution times,
+     * demonstrating the practical difference between O(n²), O(n log n) and (for bounded ranges)
+     * O(n) complexity when using different data structures for the SAME greedy algorithm.
+     *
+     * NOTE: Each engine is timed for a single cold call, so the numbers include JIT warm-up and
+     *       interpreter time. They illustrate the asymptotic gap but are not steady-state
+     *       throughput; use the JMH benchmarks (./gradlew jmh) for capacity planning.
      *
      * @param sticks array of stick lengths
      */
     public static void compareApproaches(int[] sticks) {
-        System.out.println("Comparing Greedy Naive vs Greedy Optimized");
-        System.out.println("===========================================");
+        System.out.println("Comparing Greedy Naive vs Greedy Optimized vs Two-Queue");
+        System.out.println("========================================================");
         System.out.printf("Input size: %d sticks%n", sticks.length);
-        System.out.println("(Both use the SAME greedy algorithm, different data structures)\n");
+        System.out.println("(All use the SAME greedy algorithm, different data structures)\n");
 
         // Test greedy naive approach
         long startTime = System.nanoTime();
@@ -141,6 +1067,11 @@ public class GreedyAlgorithms {
         int heapCost = connectSticksHeap(sticks);
         long heapTime = System.nanoTime() - startTime;
 
+        // Test two-queue approach
+        startTime = System.nanoTime();
+        int twoQueueCost = connectSticksTwoQueue(sticks);
+        long twoQueueTime = System.nanoTime() - startTime;
+
         // Display results
         System.out.printf("Greedy Naive (unsorted list, O(n^2)):%n");
         System.out.printf("  Cost: %d%n", naiveCost);
@@ -150,8 +1081,15 @@ public class GreedyAlgorithms {
         System.out.printf("  Cost: %d%n", heapCost);
         System.out.printf("  Time: %d nanoseconds (%.3f ms)%n%n", heapTime, heapTime / 1_000_000.0);
 
-        System.out.printf("Speedup: %.2fx%n", (double) naiveTime / heapTime);
-        System.out.printf("Results match: %s (same greedy algorithm!)%n", naiveCost == heapCost);
+        System.out.printf("Two-Queue (sorted queue + FIFO of sums, O(n) for bounded ranges):%n");
+        System.out.printf("  Cost: %d%n", twoQueueCost);
+        System.out.printf("  Time: %d nanoseconds (%.3f ms)%n%n", twoQueueTime, twoQueueTime / 1_000_000.0);
+
+        System.out.printf("Speedup (heap vs naive):      %.2fx%n", (double) naiveTime / heapTime);
+        System.out.printf("Speedup (two-queue vs naive): %.2fx%n", (double) naiveTime / twoQueueTime);
+        System.out.printf("Results match: %s (same greedy algorithm!)%n",
+            naiveCost == heapCost && heapCost == twoQueueCost);
+        System.out.println("(Single cold-start timings; run ./gradlew jmh for steady-state numbers)");
     }
 
     /**
@@ -161,6 +1099,14 @@ public class GreedyAlgorithms {
      * understand the algorithm and observe the efficiency differences.
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            int status = StickCommandLine.run(args, System.out, System.err);
+            if (status != 0) {
+                System.exit(status);
+            }
+            return;
+        }
+
         System.out.println("CS366 - PA4: Greedy Algorithms - Minimum Cost to Connect Sticks");
         System.out.println("===============================================================\n");
 
@@ -181,10 +1127,15 @@ public class GreedyAlgorithms {
 
             int naiveCost = connectSticksNaive(sticks);
             int heapCost = connectSticksHeap(sticks);
+            int primitiveHeapCost = connectSticksPrimitiveHeap(sticks);
+            int twoQueueCost = connectSticksTwoQueue(sticks);
 
-            System.out.printf("  Naive approach cost: %d%n", naiveCost);
-            System.out.printf("  Heap approach cost:  %d%n", heapCost);
-            System.out.printf("  Results match: %s%n%n", naiveCost == heapCost);
+            System.out.printf("  Naive approach cost:          %d%n", naiveCost);
+            System.out.printf("  Heap approach cost:           %d%n", heapCost);
+            System.out.printf("  Primitive heap approach cost: %d%n", primitiveHeapCost);
+            System.out.printf("  Two-queue approach cost:      %d%n", twoQueueCost);
+            System.out.printf("  Results match: %s%n%n",
+                naiveCost == heapCost && heapCost == primitiveHeapCost && primitiveHeapCost == twoQueueCost);
         }
 
         // Performance comparison with larger input
@@ -202,6 +1153,57 @@ public class GreedyAlgorithms {
         System.out.println("Run tests with: ./gradlew test");
     }
 
+    /**
+     * Helper method shared by every engine to validate its input.
+     *
+     * @param sticks array of stick lengths
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     */
+    private static void validateSticks(int[] sticks) {
+        if (sticks == null) {
+            throw new IllegalArgumentException("Sticks array must not be null");
+        }
+        if (sticks.length < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + sticks.length);
+        }
+    }
+
+    /**
+     * Helper method shared by the instrumented engines.
+     *
+     * @param metrics metrics object passed by the caller
+     * @throws IllegalArgumentException if metrics is null
+     */
+    private static void validateMetrics(EngineMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics must not be null");
+        }
+    }
+
+    /**
+     * Helper method shared by every 64-bit engine to validate its input.
+     *
+     * Negative lengths are rejected because the overflow checks and the two-queue ordering
+     * both rely on every stick being non-negative.
+     *
+     * @param sticks array of stick lengths
+     * @throws IllegalArgumentException if sticks array is null, has less than 2 elements,
+     *                                  or contains a negative length
+     */
+    private static void validateSticks(long[] sticks) {
+        if (sticks == null) {
+            throw new IllegalArgumentException("Sticks array must not be null");
+        }
+        if (sticks.length < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + sticks.length);
+        }
+        for (int i = 0; i < sticks.length; i++) {
+            if (sticks[i] < 0) {
+                throw new IllegalArgumentException("Stick " + i + " has negative length " + sticks[i]);
+            }
+        }
+    }
+
     /**
      * Helper method to generate random stick lengths for testing.
      *
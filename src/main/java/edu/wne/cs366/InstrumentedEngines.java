@@ -0,0 +1,128 @@
+package edu.wne.cs366;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Counting copies of the naive, heap and primitive heap engines, behind the EngineMetrics
+ * overloads in GreedyAlgorithms.
+ *
+ * Each one performs exactly the same steps as its plain version and returns the same cost; it
+ * only adds the counters. Keeping them separate leaves the plain engines untouched, so callers
+ * who pass no EngineMetrics pay nothing for instrumentation.
+ */
+final class InstrumentedEngines {
+
+    private InstrumentedEngines() {
+    }
+
+    /**
+     * connectSticksNaive() with metrics. Comparisons are the ones made by the two linear scans;
+     * swaps are the elements ArrayList.remove() shifts left to close each gap.
+     */
+    static int naive(int[] sticks, EngineMetrics metrics) {
+        metrics.begin("naive", sticks.length);
+
+        List<Integer> list = new ArrayList<>(sticks.length);
+        for (int stick : sticks) {
+            list.add(stick);
+        }
+        metrics.buildDone();
+
+        long comparisons = 0;
+        long shifts = 0;
+        int totalCost = 0;
+        while (list.size() > 1) {
+            int size = list.size();
+            int first = 0;
+            for (int i = 1; i < size; i++) {
+                if (list.get(i) < list.get(first)) {
+                    first = i;
+                }
+            }
+            comparisons += size - 1;
+
+            int second = -1;
+            for (int i = 0; i < size; i++) {
+                if (i != first && (second == -1 || list.get(i) < list.get(second))) {
+                    second = i;
+                }
+            }
+            comparisons += size - 2;
+
+            int cost = list.get(first) + list.get(second);
+
+            int high = Math.max(first, second);
+            int low = Math.min(first, second);
+            list.remove(high);
+            list.remove(low);
+            shifts += (size - 1 - high) + (size - 2 - low);
+
+            list.add(cost);
+            totalCost += cost;
+        }
+
+        metrics.end(sticks.length - 1, comparisons, shifts, sticks.length);
+        return totalCost;
+    }
+
+    /**
+     * connectSticksHeap() with metrics. Comparisons are counted through the queue's comparator;
+     * PriorityQueue moves its elements internally, so swaps are reported as -1.
+     */
+    static int heap(int[] sticks, EngineMetrics metrics) {
+        metrics.begin("heap", sticks.length);
+
+        CountingOrder order = new CountingOrder();
+        PriorityQueue<Integer> heap = new PriorityQueue<>(sticks.length, order);
+        for (int stick : sticks) {
+            heap.offer(stick);
+        }
+        metrics.buildDone();
+
+        int totalCost = 0;
+        while (heap.size() > 1) {
+            int cost = heap.poll() + heap.poll();
+            heap.offer(cost);
+            totalCost += cost;
+        }
+
+        metrics.end(sticks.length - 1, order.comparisons, -1, sticks.length);
+        return totalCost;
+    }
+
+    /**
+     * connectSticksPrimitiveHeap() with metrics, using a counting LongMinHeap. The counters
+     * include the comparisons and swaps made by the bottom-up heapify.
+     */
+    static int primitiveHeap(int[] sticks, EngineMetrics metrics) {
+        metrics.begin("primitive", sticks.length);
+
+        LongMinHeap heap = LongMinHeap.counting(sticks);
+        metrics.buildDone();
+
+        long totalCost = 0;
+        while (heap.size() > 1) {
+            totalCost += heap.pollTwoAndOfferSum();
+        }
+
+        metrics.end(sticks.length - 1, heap.comparisons, heap.swaps, sticks.length);
+        return (int) totalCost;
+    }
+
+    /**
+     * Natural Integer order that counts how often it is consulted.
+     */
+    private static final class CountingOrder implements Comparator<Integer> {
+
+        long comparisons;
+
+        @Override
+        public int compare(Integer a, Integer b) {
+            comparisons++;
+            return Integer.compare(a, b);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load generator for SolverServer, used by the --load command-line mode.
+ *
+ * Opens `connections` connections, each on its own virtual thread, and sends `requests` random
+ * instances of `sticks` sticks on each, keeping up to `depth` requests in flight per connection.
+ * The latency of a request is measured on the client, from just before it is sent to the moment
+ * its answer has been read, so it includes queueing in the socket buffers and on the server.
+ * Every answer is checked against connectSticksDaryHeap() on a sample of the instances.
+ *
+ * Depth 1 measures the latency of one request at a time; a larger depth measures how much
+ * throughput the server's batching gets out of a full pipeline.
+ */
+final class LoadGenerator {
+
+    /** Every CHECK_EVERY-th instance is also solved locally and compared. */
+    private static final int CHECK_EVERY = 64;
+
+    private LoadGenerator() {
+    }
+
+    /**
+     * @param address server address
+     * @param connections concurrent connections, at least 1
+     * @param requests requests per connection, at least 1
+     * @param sticks sticks per request, at least 2
+     * @param depth requests in flight per connection, at least 1
+     * @param seed seeds the random instances
+     * @return client-side latency and throughput
+     * @throws IllegalArgumentException if a count is out of range
+     * @throws IllegalStateException if the server answers a request wrongly
+     * @throws IOException if a connection fails
+     */
+    static Report run(SocketAddress address, int connections, int requests, int sticks, int depth, long seed)
+            throws IOException {
+        if (connections < 1 || requests < 1 || sticks < 2 || depth < 1) {
+            throw new IllegalArgumentException("Need connections, requests, depth >= 1 and sticks >= 2");
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> futures = new ArrayList<>(connections);
+            for (int c = 0; c < connections; c++) {
+                SplittableRandom random = new SplittableRandom(seed + c);
+                futures.add(executor.submit(() -> {
+                    drive(address, requests, sticks, depth, random, latency);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while generating load", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException io) {
+                        throw io;
+                    }
+                    if (cause instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    throw new IllegalStateException("Load generator failed", cause);
+                }
+            }
+        } finally {
+            executor.close();
+        }
+        return new Report(latency, System.nanoTime() - start);
+    }
+
+    private static void drive(SocketAddress address, int requests, int sticks, int depth,
+                              SplittableRandom random, LatencyHistogram latency) throws IOException {
+        ArrayDeque<long[]> inFlight = new ArrayDeque<>(depth);   // {send time, expected cost or -1}
+        try (SolverClient client = SolverClient.connect(address)) {
+            int sent = 0;
+            for (int received = 0; received < requests; received++) {
+                while (sent < requests && inFlight.size() < depth) {
+                    int[] instance = random.ints(sticks, 1, 1_000_000).toArray();
+                    long expected = sent % CHECK_EVERY == 0 ? GreedyAlgorithms.connectSticksDaryHeap(instance) : -1;
+                    inFlight.add(new long[]{System.nanoTime(), expected});
+                    client.send(instance);
+                    sent++;
+                }
+                long cost = client.receive();
+                long[] request = inFlight.poll();
+                latency.record(System.nanoTime() - request[0]);
+                if (request[1] >= 0 && request[1] != cost) {
+                    throw new IllegalStateException("Server answered " + cost + ", expected " + request[1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Client-side results of one run.
+     */
+    static final class Report {
+
+        final long requests;
+        final long elapsedNanos;
+        final long p50Nanos;
+        final long p99Nanos;
+        final long p999Nanos;
+        final long maxNanos;
+
+        Report(LatencyHistogram latency, long elapsedNanos) {
+            this.requests = latency.count();
+            this.elapsedNanos = elapsedNanos;
+            this.p50Nanos = latency.percentile(50);
+            this.p99Nanos = latency.percentile(99);
+            this.p999Nanos = latency.percentile(99.9);
+            this.maxNanos = latency.max();
+        }
+
+        double throughput() {
+            return elapsedNanos > 0 ? requests * 1e9 / elapsedNanos : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests in %.3f s: %.0f requests/s, p50 %.1f us, p99 %.1f us, "
+                    + "p99.9 %.1f us, max %.1f us",
+                requests, elapsedNanos / 1e9, throughput(), p50Nanos / 1e3, p99Nanos / 1e3,
+                p999Nanos / 1e3, maxNanos / 1e3);
+        }
+    }
+}
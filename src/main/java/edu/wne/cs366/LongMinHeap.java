@@ -0,0 +1,343 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+
+/**
+ * Primitive binary min-heap of stick lengths backed by a single {@code long[]}.
+ *
+ * This is the data structure behind {@link GreedyAlgorithms#connectSticksPrimitiveHeap(int[])}.
+ * It plays the same role as {@code PriorityQueue<Integer>} in
+ * {@link GreedyAlgorithms#connectSticksHeap(int[])}, but stores raw {@code long} values, so no
+ * stick or merged sum is ever boxed. The only allocation is the backing array created by the
+ * constructor; the merge loop itself allocates nothing. Heaps that grow through offer() (see
+ * StickMerger) reallocate the backing array only when it is full or mostly empty.
+ *
+ * Lengths are held as {@code long} so that merged sums of {@code int} sticks cannot overflow
+ * inside the heap.
+ *
+ * Layout: the classic implicit binary heap. The children of index i live at 2i+1 and 2i+2.
+ *
+ * Instrumentation: a heap built with counting() runs separate sift loops that also count their
+ * comparisons and swaps (one element moved one level), for EngineMetrics. Ordinary heaps pay
+ * one predictable branch per sift for this, not per level.
+ */
+final class LongMinHeap {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] heap;
+    private int size;
+
+    private final boolean counting;
+
+    /** Sift comparisons so far; only maintained by counting() heaps. */
+    long comparisons;
+
+    /** Sift swaps so far, each moving one element one level; only maintained by counting() heaps. */
+    long swaps;
+
+    /**
+     * Create an empty heap that grows as sticks are offered.
+     *
+     * @param initialCapacity number of sticks the heap can hold before it first grows
+     */
+    LongMinHeap(int initialCapacity) {
+        counting = false;
+        heap = new long[Math.max(initialCapacity, MIN_CAPACITY)];
+    }
+
+    /**
+     * Build a heap holding a copy of the given sticks.
+     *
+     * Uses bottom-up heapify (Floyd's method): copy the array as-is, then sift down every
+     * internal node from the last one to the root. This is O(n), unlike n separate offers,
+     * which cost O(n log n).
+     *
+     * @param sticks stick lengths to copy into the heap
+     */
+    LongMinHeap(int[] sticks) {
+        this(sticks, false);
+    }
+
+    private LongMinHeap(int[] sticks, boolean counting) {
+        this.counting = counting;
+        heap = new long[sticks.length];
+        for (int i = 0; i < sticks.length; i++) {
+            heap[i] = sticks[i];
+        }
+        size = sticks.length;
+        heapify();
+    }
+
+    /**
+     * Build a heap holding a copy of the given sticks in O(n).
+     *
+     * @param sticks stick lengths to copy into the heap
+     */
+    LongMinHeap(long[] sticks) {
+        counting = false;
+        heap = sticks.clone();
+        size = sticks.length;
+        heapify();
+    }
+
+    /**
+     * Build a heap like LongMinHeap(int[]) whose sifts maintain the comparisons and swaps
+     * counters. The counters include the heapify.
+     *
+     * @param sticks stick lengths; the array is not modified
+     * @return a counting heap holding a copy of the sticks
+     */
+    static LongMinHeap counting(int[] sticks) {
+        return new LongMinHeap(sticks, true);
+    }
+
+    /**
+     * Replace the contents of this heap with a copy of the given sticks, reusing the backing
+     * array when it is large enough. Lets one heap serve as scratch space for many instances.
+     *
+     * @param sticks stick lengths to copy into the heap
+     */
+    void reset(int[] sticks) {
+        if (heap.length < sticks.length) {
+            heap = new long[Math.max(sticks.length, heap.length * 2)];
+        }
+        for (int i = 0; i < sticks.length; i++) {
+            heap[i] = sticks[i];
+        }
+        size = sticks.length;
+        heapify();
+    }
+
+    /**
+     * @return number of sticks currently in the heap
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the smallest stick without removing it
+     */
+    long peek() {
+        return heap[0];
+    }
+
+    /**
+     * @return the second-smallest stick without removing anything; requires size() >= 2
+     */
+    long peekSecond() {
+        if (size == 2) {
+            return heap[1];
+        }
+        return Math.min(heap[1], heap[2]);
+    }
+
+    /**
+     * @return a copy of the sticks currently in the heap, in heap order
+     */
+    long[] toArray() {
+        return Arrays.copyOf(heap, size);
+    }
+
+    /**
+     * @return length of the backing array
+     */
+    int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * Insert a stick, doubling the backing array if it is full.
+     *
+     * @param value stick length to insert
+     */
+    void offer(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        siftUp(size++, value);
+    }
+
+    /**
+     * Halve the backing array while it is less than a quarter full, so memory tracks the
+     * number of live sticks rather than the largest size ever reached.
+     */
+    void shrinkToFit() {
+        int capacity = heap.length;
+        while (capacity > MIN_CAPACITY && size < capacity / 4) {
+            capacity /= 2;
+        }
+        if (capacity != heap.length) {
+            heap = Arrays.copyOf(heap, capacity);
+        }
+    }
+
+    /**
+     * Remove and return the smallest stick.
+     *
+     * @return the smallest stick
+     */
+    long poll() {
+        long min = heap[0];
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size]);
+        }
+        return min;
+    }
+
+    /**
+     * Fused "pop two, push sum" step of the greedy algorithm.
+     *
+     * Removes the two smallest sticks and inserts their sum, returning that sum (the cost of the
+     * connection). Instead of poll() + poll() + offer() (three sifts), the second minimum is
+     * overwritten in place with the sum and sifted down once, so each step costs two sift-downs
+     * and no sift-up.
+     *
+     * Requires size() >= 2.
+     *
+     * @return the sum of the two smallest sticks
+     */
+    long pollTwoAndOfferSum() {
+        long first = heap[0];
+        size--;
+        siftDown(0, heap[size]);
+        long sum = first + heap[0];
+        siftDown(0, sum);
+        return sum;
+    }
+
+    /**
+     * Same as {@link #pollTwoAndOfferSum()}, but fails instead of wrapping around when the sum
+     * does not fit in a long. The check compiles to a single overflow-flag branch.
+     *
+     * @return the sum of the two smallest sticks
+     * @throws ArithmeticException if the sum overflows a long
+     */
+    long pollTwoAndOfferSumExact() {
+        long first = heap[0];
+        size--;
+        siftDown(0, heap[size]);
+        long sum = Math.addExact(first, heap[0]);
+        siftDown(0, sum);
+        return sum;
+    }
+
+    /**
+     * Turn the unordered backing array into a valid heap, bottom-up.
+     */
+    private void heapify() {
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    /**
+     * Place value at index i and move it up until its parent is no larger.
+     */
+    private void siftUp(int i, long value) {
+        if (counting) {
+            siftUpCounted(i, value);
+            return;
+        }
+        long[] h = heap;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            long parentValue = h[parent];
+            if (parentValue <= value) {
+                break;
+            }
+            h[i] = parentValue;
+            i = parent;
+        }
+        h[i] = value;
+    }
+
+    /**
+     * Place value at index i and move it down until both children are no smaller.
+     *
+     * Uses the "hole" technique: children are shifted up into the hole and value is written
+     * exactly once at its final position.
+     */
+    private void siftDown(int i, long value) {
+        if (counting) {
+            siftDownCounted(i, value);
+            return;
+        }
+        long[] h = heap;
+        int n = size;
+        int half = n >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            long childValue = h[child];
+            int right = child + 1;
+            if (right < n && h[right] < childValue) {
+                child = right;
+                childValue = h[right];
+            }
+            if (value <= childValue) {
+                break;
+            }
+            h[i] = childValue;
+            i = child;
+        }
+        h[i] = value;
+    }
+
+    /**
+     * siftUp() for counting heaps.
+     */
+    private void siftUpCounted(int i, long value) {
+        long[] h = heap;
+        long compared = 0;
+        long moved = 0;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            long parentValue = h[parent];
+            compared++;
+            if (parentValue <= value) {
+                break;
+            }
+            h[i] = parentValue;
+            moved++;
+            i = parent;
+        }
+        h[i] = value;
+        comparisons += compared;
+        swaps += moved;
+    }
+
+    /**
+     * siftDown() for counting heaps.
+     */
+    private void siftDownCounted(int i, long value) {
+        long[] h = heap;
+        int n = size;
+        int half = n >>> 1;
+        long compared = 0;
+        long moved = 0;
+        while (i < half) {
+            int child = 2 * i + 1;
+            long childValue = h[child];
+            int right = child + 1;
+            if (right < n) {
+                compared++;
+                if (h[right] < childValue) {
+                    child = right;
+                    childValue = h[right];
+                }
+            }
+            compared++;
+            if (value <= childValue) {
+                break;
+            }
+            h[i] = childValue;
+            moved++;
+            i = child;
+        }
+        h[i] = value;
+        comparisons += compared;
+        swaps += moved;
+    }
+}
@@ -0,0 +1,232 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streaming engine over a memory-mapped StickFile, used by connectSticksStreaming().
+ *
+ * The merge is the two-queue technique (see TwoQueueMerge) run on a sorted feed:
+ * - sticks arrive in non-decreasing order, so at most two original sticks are ever live
+ * - merged sums are produced in non-decreasing order, so they form a FIFO; that FIFO can hold
+ *   up to n-1 sums, so it lives in a memory-mapped scratch file instead of on the heap
+ * Two sticks are merged as soon as they are the two smallest live sticks and the second of
+ * them is no longer than the latest input (the same watermark rule as StickMerger).
+ *
+ * Sorted files are fed straight from the mapping. Unsorted files are turned into a sorted feed
+ * without sorting the whole file on the heap:
+ * - pass 1 finds the minimum and maximum length
+ * - pass 2 builds a histogram of BUCKETS equal-width length ranges
+ * - consecutive buckets are grouped into partitions of at most chunkSticks sticks
+ * - one more pass per partition copies just that length range out of the mapping, sorts it,
+ *   and feeds it in
+ * Partitions are visited in increasing length order, so the feed is non-decreasing. A single
+ * bucket can exceed chunkSticks when many sticks share a narrow range, in which case that
+ * partition is simply larger.
+ *
+ * Heap use is one partition plus a constant; the input file and the FIFO stay in the page cache.
+ */
+final class MappedStickMerge implements AutoCloseable {
+
+    static final int BUCKETS = 1 << 16;
+
+    /** Longs per mapped FIFO region (1 GiB). */
+    private static final long REGION_LONGS = 1L << 27;
+
+    private final FileChannel fifoChannel;
+    private final MappedByteBuffer[] fifoRegions;
+    private final long fifoCapacity;
+    private long head;
+    private long tail;
+
+    // Live original sticks, oldest first; never more than two
+    private long original0;
+    private long original1;
+    private int originals;
+
+    private long watermark = Long.MIN_VALUE;
+    private long cost;
+
+    private MappedStickMerge(long stickCount) throws IOException {
+        Path scratch = Files.createTempFile("sticks", ".fifo");
+        fifoChannel = FileChannel.open(scratch, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.DELETE_ON_CLOSE);
+        fifoCapacity = stickCount - 1;
+        fifoRegions = new MappedByteBuffer[(int) ((fifoCapacity + REGION_LONGS - 1) / REGION_LONGS)];
+    }
+
+    /**
+     * @param file open stick file with at least two sticks
+     * @param chunkSticks target number of sticks sorted on the heap at once
+     * @return minimum total cost
+     * @throws IllegalArgumentException if the file holds fewer than two sticks or a negative length
+     * @throws ArithmeticException if the cost overflows a long
+     * @throws UncheckedIOException if the scratch file cannot be created or mapped
+     */
+    static long cost(StickFile file, int chunkSticks) {
+        if (file.count() < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + file.count());
+        }
+        try (MappedStickMerge merge = new MappedStickMerge(file.count())) {
+            if (file.isSorted()) {
+                file.forEach(merge::add);
+            } else {
+                merge.feedPartitioned(file, chunkSticks);
+            }
+            return merge.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void feedPartitioned(StickFile file, int chunkSticks) {
+        long[] range = {Long.MAX_VALUE, Long.MIN_VALUE};
+        file.forEach(stick -> {
+            range[0] = Math.min(range[0], stick);
+            range[1] = Math.max(range[1], stick);
+        });
+        long min = range[0];
+        long max = range[1];
+        if (min < 0) {
+            throw new IllegalArgumentException("File contains negative length " + min);
+        }
+        // max - min cannot overflow once min >= 0
+        long bucketWidth = (max - min) / BUCKETS + 1;
+
+        long[] histogram = new long[BUCKETS];
+        file.forEach(stick -> histogram[(int) ((stick - min) / bucketWidth)]++);
+
+        int bucket = 0;
+        while (bucket < BUCKETS) {
+            int first = bucket;
+            long size = histogram[bucket++];
+            while (bucket < BUCKETS && size + histogram[bucket] <= chunkSticks) {
+                size += histogram[bucket++];
+            }
+            if (size == 0) {
+                continue;
+            }
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException(size + " sticks share one length range; too many to sort at once");
+            }
+
+            // Lengths in [lo, hi] belong to buckets first .. bucket-1
+            long lo = min + first * bucketWidth;
+            long hi = bucket == BUCKETS ? max : min + Math.min(bucket * bucketWidth - 1, max - min);
+            long[] chunk = new long[(int) size];
+            int[] filled = {0};
+            file.forEach(stick -> {
+                if (stick >= lo && stick <= hi) {
+                    chunk[filled[0]++] = stick;
+                }
+            });
+            Arrays.sort(chunk);
+            for (long stick : chunk) {
+                add(stick);
+            }
+        }
+    }
+
+    private void add(long stick) {
+        if (stick < 0) {
+            throw new IllegalArgumentException("File contains negative length " + stick);
+        }
+        if (stick < watermark) {
+            throw new IllegalArgumentException("File is flagged sorted but " + stick + " follows " + watermark);
+        }
+        if (originals == 0) {
+            original0 = stick;
+        } else {
+            original1 = stick;
+        }
+        originals++;
+        watermark = stick;
+        mergeBelowWatermark();
+    }
+
+    private long finish() {
+        watermark = Long.MAX_VALUE;
+        mergeBelowWatermark();
+        return cost;
+    }
+
+    /**
+     * Merge the two smallest live sticks while the second of them is no longer than the
+     * watermark. Both queues are sorted, so the two smallest are among their first two entries.
+     */
+    private void mergeBelowWatermark() {
+        while (originals + (tail - head) >= 2) {
+            long o0 = originals > 0 ? original0 : Long.MAX_VALUE;
+            long o1 = originals > 1 ? original1 : Long.MAX_VALUE;
+            long f0 = tail - head > 0 ? fifoGet(head) : Long.MAX_VALUE;
+            long f1 = tail - head > 1 ? fifoGet(head + 1) : Long.MAX_VALUE;
+
+            // How many of the two smallest come from the originals, and the second smallest
+            int fromOriginals;
+            long second;
+            if (o0 <= f0) {
+                fromOriginals = o1 <= f0 ? 2 : 1;
+                second = Math.min(o1, f0);
+            } else {
+                fromOriginals = o0 <= f1 ? 1 : 0;
+                second = Math.min(o0, f1);
+            }
+            if (second > watermark) {
+                return;
+            }
+
+            long sum = 0;
+            for (int taken = 0; taken < 2; taken++) {
+                if (taken < fromOriginals) {
+                    sum = Math.addExact(sum, original0);
+                    original0 = original1;
+                    originals--;
+                } else {
+                    sum = Math.addExact(sum, fifoGet(head++));
+                    if (head % REGION_LONGS == 0) {
+                        // That region is fully consumed; let its mapping go
+                        fifoRegions[(int) (head / REGION_LONGS) - 1] = null;
+                    }
+                }
+            }
+            fifoPut(tail++, sum);
+            cost = Math.addExact(cost, sum);
+        }
+    }
+
+    private long fifoGet(long index) {
+        return region(index).getLong((int) (index % REGION_LONGS) * Long.BYTES);
+    }
+
+    private void fifoPut(long index, long value) {
+        region(index).putLong((int) (index % REGION_LONGS) * Long.BYTES, value);
+    }
+
+    private MappedByteBuffer region(long index) {
+        int r = (int) (index / REGION_LONGS);
+        if (fifoRegions[r] == null) {
+            long first = r * REGION_LONGS;
+            long longs = Math.min(REGION_LONGS, fifoCapacity - first);
+            try {
+                fifoRegions[r] = fifoChannel.map(FileChannel.MapMode.READ_WRITE,
+                    first * Long.BYTES, longs * Long.BYTES);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            fifoRegions[r].order(ByteOrder.nativeOrder());
+        }
+        return fifoRegions[r];
+    }
+
+    @Override
+    public void close() throws IOException {
+        fifoChannel.close();
+    }
+}
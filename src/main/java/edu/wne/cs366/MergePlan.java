@@ -0,0 +1,174 @@
+package edu.wne.cs366;
+
+/**
+ * The full merge order produced by {@link GreedyAlgorithms#connectSticksWithPlan(int[])}.
+ *
+ * Stick ids:
+ * - 0 .. n-1 are the original sticks, in input order
+ * - n + k is the stick produced by step k
+ *
+ * Step k joins sticks left(k) and right(k) into a stick of length sum(k). Steps are listed in
+ * the order they are performed, so both inputs of a step always have smaller ids than the
+ * stick it produces.
+ *
+ * Storage is three flat primitive arrays of n-1 entries (int left, int right, long sum) rather
+ * than one object per tree node. The step number is the array index, so it is not stored.
+ */
+public final class MergePlan {
+
+    private final int stickCount;
+    private final int[] left;
+    private final int[] right;
+    private final long[] sum;
+    private final long cost;
+
+    MergePlan(int stickCount, int[] left, int[] right, long[] sum, long cost) {
+        this.stickCount = stickCount;
+        this.left = left;
+        this.right = right;
+        this.sum = sum;
+        this.cost = cost;
+    }
+
+    /**
+     * @return number of original sticks n
+     */
+    public int stickCount() {
+        return stickCount;
+    }
+
+    /**
+     * @return number of merge steps, n - 1
+     */
+    public int steps() {
+        return left.length;
+    }
+
+    /**
+     * @param step step index in [0, steps())
+     * @return id of the first stick joined at this step
+     */
+    public int left(int step) {
+        return left[step];
+    }
+
+    /**
+     * @param step step index in [0, steps())
+     * @return id of the second stick joined at this step
+     */
+    public int right(int step) {
+        return right[step];
+    }
+
+    /**
+     * @param step step index in [0, steps())
+     * @return length of the stick produced at this step, which is also the cost of the step
+     */
+    public long sum(int step) {
+        return sum[step];
+    }
+
+    /**
+     * @return total cost of the plan, the sum of all step costs
+     */
+    public long cost() {
+        return cost;
+    }
+
+    /**
+     * @param id stick id
+     * @return true if id refers to an original stick rather than one produced by a step
+     */
+    public boolean isOriginal(int id) {
+        return id < stickCount;
+    }
+
+    /**
+     * @return copy of the left-stick ids, indexed by step
+     */
+    public int[] leftIds() {
+        return left.clone();
+    }
+
+    /**
+     * @return copy of the right-stick ids, indexed by step
+     */
+    public int[] rightIds() {
+        return right.clone();
+    }
+
+    /**
+     * @return copy of the step sums, indexed by step
+     */
+    public long[] sums() {
+        return sum.clone();
+    }
+
+    /**
+     * Check that this plan is a valid way to connect the given sticks and that its recorded
+     * cost matches what replaying it costs.
+     *
+     * @param sticks the sticks the plan was built for
+     * @return true if replay(sticks, this) equals cost()
+     * @throws IllegalArgumentException if the plan is not a valid plan for these sticks
+     */
+    public boolean verify(int[] sticks) {
+        return replay(sticks, this) == cost;
+    }
+
+    /**
+     * Recompute the total cost of a plan by performing its steps on the given sticks.
+     *
+     * Checks along the way that every step joins two sticks that exist at that point and have
+     * not been used yet, that every recorded sum matches the joined lengths, and that the plan
+     * ends with a single stick.
+     *
+     * Time Complexity: O(n). Space Complexity: O(n) - one length and one flag per stick id.
+     *
+     * @param sticks the sticks the plan was built for
+     * @param plan plan to replay
+     * @return total cost of the plan's steps
+     * @throws IllegalArgumentException if the plan is not a valid plan for these sticks
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    public static long replay(int[] sticks, MergePlan plan) {
+        if (sticks == null || plan == null) {
+            throw new IllegalArgumentException("Sticks and plan must not be null");
+        }
+        int n = sticks.length;
+        if (plan.stickCount != n || plan.steps() != n - 1) {
+            throw new IllegalArgumentException(
+                "Plan is for " + plan.stickCount + " sticks and has " + plan.steps() + " steps, got " + n + " sticks");
+        }
+
+        long[] lengths = new long[2 * n - 1];
+        for (int i = 0; i < n; i++) {
+            lengths[i] = sticks[i];
+        }
+        boolean[] used = new boolean[2 * n - 1];
+
+        long totalCost = 0;
+        for (int step = 0; step < n - 1; step++) {
+            int a = plan.left[step];
+            int b = plan.right[step];
+            int produced = n + step;
+            if (a < 0 || b < 0 || a >= produced || b >= produced || a == b) {
+                throw new IllegalArgumentException("Step " + step + " joins invalid sticks " + a + " and " + b);
+            }
+            if (used[a] || used[b]) {
+                throw new IllegalArgumentException("Step " + step + " reuses stick " + (used[a] ? a : b));
+            }
+            used[a] = true;
+            used[b] = true;
+
+            long joined = Math.addExact(lengths[a], lengths[b]);
+            if (joined != plan.sum[step]) {
+                throw new IllegalArgumentException(
+                    "Step " + step + " records sum " + plan.sum[step] + " but its sticks add up to " + joined);
+            }
+            lengths[produced] = joined;
+            totalCost = Math.addExact(totalCost, joined);
+        }
+        return totalCost;
+    }
+}
@@ -0,0 +1,152 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+
+/**
+ * A greedy merge that can stop part-way and be resumed later, returned by
+ * {@link GreedyAlgorithms#mergeSession(int[])},
+ * {@link GreedyAlgorithms#connectSticksUntil(int[], int)} and
+ * {@link GreedyAlgorithms#connectSticksWithinBudget(int[], long)}.
+ *
+ * The session owns a primitive heap (LongMinHeap) of the sticks still to be merged, built once
+ * in O(n). Each merge step is the usual fused "pop two, push sum" step, so stopping after k
+ * steps costs O(n + k log n) instead of the O(n log n) of a full merge, and a later call picks
+ * up from the same heap without rebuilding it. Merging in several calls performs exactly the
+ * same steps as one call to the end, so finish() always returns the minimum total cost.
+ *
+ * Usage:
+ * <pre>
+ *   MergeSession session = GreedyAlgorithms.connectSticksUntil(sticks, 100);
+ *   long[] hundred = session.remainingSticks();      // 100 sticks, cost so far session.cost()
+ *   session.mergeWithinBudget(1_000_000);            // continue, but spend at most 10^6 in total
+ *   long total = session.finish();                   // same as connectSticks(sticks)
+ * </pre>
+ *
+ * A session is not thread-safe.
+ */
+public final class MergeSession {
+
+    private final LongMinHeap heap;
+    private final int stickCount;
+    private long cost;
+
+    MergeSession(int[] sticks) {
+        heap = new LongMinHeap(sticks);
+        stickCount = sticks.length;
+    }
+
+    /**
+     * @return number of original sticks n
+     */
+    public int stickCount() {
+        return stickCount;
+    }
+
+    /**
+     * @return number of sticks not yet merged into another, between 1 and n
+     */
+    public int remainingCount() {
+        return heap.size();
+    }
+
+    /**
+     * @return number of merge steps performed so far
+     */
+    public int merges() {
+        return stickCount - heap.size();
+    }
+
+    /**
+     * @return total cost of the merges performed so far
+     */
+    public long cost() {
+        return cost;
+    }
+
+    /**
+     * @return true once a single stick remains
+     */
+    public boolean isComplete() {
+        return heap.size() == 1;
+    }
+
+    /**
+     * Cost of the step the greedy algorithm would perform next, without performing it.
+     *
+     * @return sum of the two shortest remaining sticks
+     * @throws IllegalStateException if the merge is complete
+     * @throws ArithmeticException if the sum does not fit in a long
+     */
+    public long nextMergeCost() {
+        if (isComplete()) {
+            throw new IllegalStateException("Merge is complete, no sticks left to connect");
+        }
+        return Math.addExact(heap.peek(), heap.peekSecond());
+    }
+
+    /**
+     * @return the sticks not yet merged, in ascending order; a new array on every call
+     */
+    public long[] remainingSticks() {
+        long[] remaining = heap.toArray();
+        Arrays.sort(remaining);
+        return remaining;
+    }
+
+    /**
+     * Merge until at most maxSticks sticks remain.
+     *
+     * @param maxSticks number of sticks to stop at, at least 1
+     * @return cost of the merges performed by this call
+     * @throws IllegalArgumentException if maxSticks is less than 1
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public long mergeUntil(int maxSticks) {
+        if (maxSticks < 1) {
+            throw new IllegalArgumentException("At least one stick must remain, got " + maxSticks);
+        }
+        long before = cost;
+        while (heap.size() > maxSticks) {
+            cost = Math.addExact(cost, heap.pollTwoAndOfferSumExact());
+        }
+        return cost - before;
+    }
+
+    /**
+     * Merge while the next step keeps the total cost (including earlier calls) at most budget.
+     * Stops before the first step that would exceed it, or when one stick remains.
+     *
+     * @param budget largest total cost allowed
+     * @return cost of the merges performed by this call
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public long mergeWithinBudget(long budget) {
+        long before = cost;
+        while (heap.size() > 1) {
+            long next = Math.addExact(heap.peek(), heap.peekSecond());
+            long total = Math.addExact(cost, next);
+            if (total > budget) {
+                break;
+            }
+            heap.pollTwoAndOfferSumExact();
+            cost = total;
+        }
+        return cost - before;
+    }
+
+    /**
+     * Perform every remaining merge.
+     *
+     * @return total cost of the whole merge, the minimum cost to connect all sticks
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public long finish() {
+        mergeUntil(1);
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MergeSession(n=%d, remaining=%d, cost=%d)", stickCount, heap.size(), cost);
+    }
+}
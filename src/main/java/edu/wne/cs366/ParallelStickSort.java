@@ -0,0 +1,179 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join presort used by {@link GreedyAlgorithms#connectSticksParallel(int[], ForkJoinPool, int)}.
+ *
+ * Two strategies, both running entirely inside the caller's ForkJoinPool:
+ * - Small value range (at most COUNTING_SORT_MAX_RANGE distinct values): parallel counting sort.
+ *   Each leaf task builds a histogram of its slice, the histograms are summed pairwise on the
+ *   way back up, and the sorted output is written by parallel Arrays.fill over value ranges.
+ * - Otherwise: Arrays.parallelSort, invoked from a task in the pool. Its subtasks are forked
+ *   from that worker thread, so they run in the configured pool, not the common pool. It does
+ *   size its splits from ForkJoinPool.getCommonPoolParallelism() rather than from this pool's
+ *   parallelism, so a pool much wider than the common pool gets fewer leaves than it could use.
+ */
+final class ParallelStickSort {
+
+    /** Largest value range sorted by the counting path; keeps each leaf's histogram in L2. */
+    static final int COUNTING_SORT_MAX_RANGE = 1 << 16;
+
+    /** Smallest slice a task will split off. */
+    private static final int MIN_LEAF_SIZE = 1 << 16;
+
+    /** Leaf tasks per worker thread, enough slack for work stealing to balance the load. */
+    private static final int LEAVES_PER_THREAD = 4;
+
+    private ParallelStickSort() {
+    }
+
+    /**
+     * Return a sorted copy of the sticks, leaving the input untouched.
+     *
+     * @param sticks stick lengths
+     * @param pool pool that runs every parallel step
+     * @return a new array holding the same sticks in ascending order
+     */
+    static int[] sortedCopy(int[] sticks, ForkJoinPool pool) {
+        // Few, large leaves: every histogram leaf allocates a full count array
+        int leafSize = Math.max(MIN_LEAF_SIZE, sticks.length / (pool.getParallelism() * LEAVES_PER_THREAD));
+
+        long[] minMax = pool.invoke(new MinMaxTask(sticks, 0, sticks.length, leafSize));
+        int min = (int) minMax[0];
+        long range = minMax[1] - minMax[0] + 1;
+
+        if (range <= COUNTING_SORT_MAX_RANGE) {
+            int[] counts = pool.invoke(new HistogramTask(sticks, 0, sticks.length, min, (int) range, leafSize));
+            int[] starts = new int[counts.length + 1];
+            for (int v = 0; v < counts.length; v++) {
+                starts[v + 1] = starts[v] + counts[v];
+            }
+            int[] sorted = new int[sticks.length];
+            pool.invoke(new FillTask(sorted, starts, min, 0, counts.length, leafSize));
+            return sorted;
+        }
+
+        int[] sorted = sticks.clone();
+        pool.submit(() -> Arrays.parallelSort(sorted)).join();
+        return sorted;
+    }
+
+    /**
+     * Computes {min, max} of a slice.
+     */
+    private static final class MinMaxTask extends RecursiveTask<long[]> {
+        private final int[] sticks;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        MinMaxTask(int[] sticks, int from, int to, int leafSize) {
+            this.sticks = sticks;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= leafSize) {
+                int min = sticks[from];
+                int max = sticks[from];
+                for (int i = from + 1; i < to; i++) {
+                    int stick = sticks[i];
+                    if (stick < min) {
+                        min = stick;
+                    } else if (stick > max) {
+                        max = stick;
+                    }
+                }
+                return new long[]{min, max};
+            }
+            int mid = (from + to) >>> 1;
+            MinMaxTask left = new MinMaxTask(sticks, from, mid, leafSize);
+            left.fork();
+            long[] right = new MinMaxTask(sticks, mid, to, leafSize).compute();
+            long[] leftResult = left.join();
+            return new long[]{Math.min(leftResult[0], right[0]), Math.max(leftResult[1], right[1])};
+        }
+    }
+
+    /**
+     * Counts occurrences of each value in [min, min + range) within a slice.
+     */
+    private static final class HistogramTask extends RecursiveTask<int[]> {
+        private final int[] sticks;
+        private final int from;
+        private final int to;
+        private final int min;
+        private final int range;
+        private final int leafSize;
+
+        HistogramTask(int[] sticks, int from, int to, int min, int range, int leafSize) {
+            this.sticks = sticks;
+            this.from = from;
+            this.to = to;
+            this.min = min;
+            this.range = range;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= leafSize) {
+                int[] counts = new int[range];
+                for (int i = from; i < to; i++) {
+                    counts[sticks[i] - min]++;
+                }
+                return counts;
+            }
+            int mid = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(sticks, from, mid, min, range, leafSize);
+            left.fork();
+            int[] counts = new HistogramTask(sticks, mid, to, min, range, leafSize).compute();
+            int[] leftCounts = left.join();
+            for (int v = 0; v < range; v++) {
+                counts[v] += leftCounts[v];
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Writes the values [fromValue, toValue) into their final positions.
+     */
+    private static final class FillTask extends RecursiveAction {
+        private final int[] sorted;
+        private final int[] starts;
+        private final int min;
+        private final int fromValue;
+        private final int toValue;
+        private final int leafSize;
+
+        FillTask(int[] sorted, int[] starts, int min, int fromValue, int toValue, int leafSize) {
+            this.sorted = sorted;
+            this.starts = starts;
+            this.min = min;
+            this.fromValue = fromValue;
+            this.toValue = toValue;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (toValue - fromValue == 1 || starts[toValue] - starts[fromValue] <= leafSize) {
+                for (int v = fromValue; v < toValue; v++) {
+                    Arrays.fill(sorted, starts[v], starts[v + 1], v + min);
+                }
+                return;
+            }
+            int mid = (fromValue + toValue) >>> 1;
+            invokeAll(new FillTask(sorted, starts, min, fromValue, mid, leafSize),
+                new FillTask(sorted, starts, min, mid, toValue, leafSize));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+
+/**
+ * Pipelined engine over a StickFile, used by connectSticksPipelined().
+ *
+ * Three stages run at once instead of back to back:
+ * - ingestion: each worker thread copies its own slice of the mapped file into a long[]
+ * - sorting: the same worker sorts its slice (TwoQueueMerge.sortedCopy, so counting sort for
+ *   small value ranges), producing one sorted run per worker
+ * - merging: the calling thread takes the runs through one SpscLongRing per worker, merges
+ *   the run heads k ways (a binary heap of run indices keyed by their current head) and feeds
+ *   that sorted stream straight into the two-queue merge
+ * No global sorted array is ever built; the merge thread only holds one block per run and the
+ * FIFO of merged sums.
+ *
+ * What overlaps with what: the merge cannot take its first stick before every run has been
+ * sorted, because any run may hold the smallest stick. So for an unsorted file the workers
+ * ingest and sort in parallel, then stream their runs while the merge thread consumes them,
+ * and the end-to-end time is about (ingest + sort) / workers + merge rather than
+ * ingest + sort + merge. A file flagged as sorted needs no sort, so it is read by a single
+ * producer that streams blocks straight from the mapping while the merge thread consumes
+ * them, and the end-to-end time is about max(ingest, merge).
+ *
+ * Workers are daemon platform threads started per call. A failure on either side stops the
+ * other: a worker that fails passes its exception through its ring to the merge thread, and a
+ * merge thread that fails (overflow) cancels every ring so the workers stop.
+ */
+final class PipelinedMerge {
+
+    /** Longs per ring (128 KiB): enough to keep a worker busy while the merge thread works. */
+    static final int RING_CAPACITY = 1 << 14;
+
+    /** Longs moved per transfer between a ring and the merge thread, or read per block. */
+    static final int BLOCK = 1 << 10;
+
+    private PipelinedMerge() {
+    }
+
+    /**
+     * @param file open stick file with at least two sticks
+     * @param workers number of worker threads, at least 1
+     * @return minimum total cost
+     * @throws IllegalArgumentException if the file contains a negative length
+     * @throws IllegalStateException if the file holds too many sticks for an array
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    static long cost(StickFile file, int workers) {
+        if (file.count() > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(file.count() + " sticks do not fit in an array; use the stream engine");
+        }
+        int n = (int) file.count();
+        int runs = file.isSorted() ? 1 : Math.min(workers, n);
+
+        SpscLongRing[] rings = new SpscLongRing[runs];
+        for (int r = 0; r < runs; r++) {
+            SpscLongRing ring = new SpscLongRing(RING_CAPACITY);
+            rings[r] = ring;
+            int from = (int) ((long) n * r / runs);
+            int to = (int) ((long) n * (r + 1) / runs);
+            Thread worker = new Thread(() -> produce(file, from, to - from, ring), "stick-pipeline-" + r);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        try {
+            return merge(new RunMerger(rings), n);
+        } finally {
+            for (SpscLongRing ring : rings) {
+                ring.cancel();
+            }
+        }
+    }
+
+    /**
+     * Worker: ingest sticks [from, from + length) and deliver them to the ring in order.
+     */
+    private static void produce(StickFile file, int from, int length, SpscLongRing ring) {
+        try {
+            if (file.isSorted()) {
+                // The merge trusts the stream to be ascending, so hold the flag to it: last is the
+                // previous stick, carried across blocks, as in MappedStickMerge.add
+                long[] block = new long[BLOCK];
+                long last = 0;
+                for (int pos = 0; pos < length; pos += BLOCK) {
+                    int size = Math.min(BLOCK, length - pos);
+                    if (size < BLOCK) {
+                        block = Arrays.copyOf(block, size);
+                    }
+                    file.readLongs(from + pos, block);
+                    checkLengths(block);
+                    last = checkAscending(block, last);
+                    if (!ring.put(block, 0, size)) {
+                        return;
+                    }
+                }
+            } else {
+                long[] run = new long[length];
+                file.readLongs(from, run);
+                checkLengths(run);
+                run = TwoQueueMerge.sortedCopy(run);
+                if (!ring.put(run, 0, length)) {
+                    return;
+                }
+            }
+            ring.close();
+        } catch (RuntimeException e) {
+            ring.fail(e);
+        } catch (Error e) {
+            ring.fail(new IllegalStateException("Pipeline worker failed", e));
+        }
+    }
+
+    private static void checkLengths(long[] sticks) {
+        for (long stick : sticks) {
+            if (stick < 0) {
+                throw new IllegalArgumentException("File contains negative length " + stick);
+            }
+        }
+    }
+
+    /**
+     * @param last the stick before this block, or 0 for the first block
+     * @return the last stick of the block
+     */
+    private static long checkAscending(long[] block, long last) {
+        for (long stick : block) {
+            if (stick < last) {
+                throw new IllegalArgumentException("File is flagged sorted but " + stick + " follows " + last);
+            }
+            last = stick;
+        }
+        return last;
+    }
+
+    /**
+     * Two-queue merge over the k-way merged stream; same steps as
+     * TwoQueueMerge.mergeSortedExact(long[]), with the sorted array replaced by the stream.
+     */
+    private static long merge(RunMerger sorted, int n) {
+        long[] merged = new long[n - 1];
+        int next = 0;
+        int head = 0;
+        int tail = 0;
+        long totalCost = 0;
+        long pending = sorted.next();
+
+        for (int step = 0; step < n - 1; step++) {
+            long first;
+            if (next < n && (head == tail || pending <= merged[head])) {
+                first = pending;
+                pending = ++next < n ? sorted.next() : 0;
+            } else {
+                first = merged[head++];
+            }
+            long second;
+            if (next < n && (head == tail || pending <= merged[head])) {
+                second = pending;
+                pending = ++next < n ? sorted.next() : 0;
+            } else {
+                second = merged[head++];
+            }
+
+            long cost = Math.addExact(first, second);
+            merged[tail++] = cost;
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * k-way merge of sorted runs arriving through rings.
+     *
+     * Each run keeps a local block refilled from its ring, so the rings are touched once per
+     * BLOCK sticks. heap holds the indices of the runs that still have sticks, as a binary
+     * min-heap on their current heads; with k runs each stick costs O(log k).
+     */
+    private static final class RunMerger {
+
+        private final SpscLongRing[] rings;
+        private final long[][] blocks;
+        private final int[] positions;
+        private final int[] limits;
+        private final int[] heap;
+        private int size;
+
+        RunMerger(SpscLongRing[] rings) {
+            this.rings = rings;
+            int k = rings.length;
+            blocks = new long[k][BLOCK];
+            positions = new int[k];
+            limits = new int[k];
+            heap = new int[k];
+            // Filling a run waits for its worker, so this is where the merge waits for the sorts
+            for (int r = 0; r < k; r++) {
+                if (refill(r)) {
+                    heap[size] = r;
+                    siftUp(size++);
+                }
+            }
+        }
+
+        /**
+         * @return the smallest stick not yet returned; only called while one remains
+         */
+        long next() {
+            int run = heap[0];
+            long stick = blocks[run][positions[run]++];
+            if (positions[run] < limits[run] || refill(run)) {
+                siftDown(0);
+            } else {
+                heap[0] = heap[--size];
+                if (size > 0) {
+                    siftDown(0);
+                }
+            }
+            return stick;
+        }
+
+        /**
+         * @return false if the run is finished
+         */
+        private boolean refill(int run) {
+            int n = rings[run].take(blocks[run]);
+            if (n < 0) {
+                return false;
+            }
+            positions[run] = 0;
+            limits[run] = n;
+            return true;
+        }
+
+        private long headOf(int run) {
+            return blocks[run][positions[run]];
+        }
+
+        private void siftUp(int i) {
+            int run = heap[i];
+            long key = headOf(run);
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (headOf(heap[parent]) <= key) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = run;
+        }
+
+        private void siftDown(int i) {
+            int run = heap[i];
+            long key = headOf(run);
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && headOf(heap[child + 1]) < headOf(heap[child])) {
+                    child++;
+                }
+                if (key <= headOf(heap[child])) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = run;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package edu.wne.cs366;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded cache of costs in front of an engine, for traffic that repeats instances, often
+ * with the sticks in a different order.
+ *
+ * Usage:
+ * <pre>
+ *   ResultCache cache = new ResultCache(10_000);
+ *   long cost = cache.connectSticks(sticks);      // same result as connectSticks(sticks)
+ * </pre>
+ *
+ * Implementation Approach:
+ * - The key is a fingerprint of the multiset of lengths, computed in one pass: the stick count
+ *   and two sums of independently mixed lengths (SplitMix64 finalizer). Addition commutes, so
+ *   every ordering of the same sticks gets the same key; the first sum is the 64-bit
+ *   fingerprint the table is hashed on, the second and the count must match as well, so a
+ *   wrong answer needs two 64-bit collisions at once
+ * - Entries live in an access-ordered LinkedHashMap, so the least recently used entry is
+ *   evicted once maxEntries is reached
+ * - Inputs of fewer than MIN_CACHED_STICKS sticks bypass the cache: solving them is about as
+ *   cheap as fingerprinting and looking them up
+ *
+ * The fingerprint is meant for honest traffic: the mixing is not keyed, so someone who knows
+ * it could craft two different instances with the same key.
+ *
+ * Time Complexity: O(n) per hit; a miss adds the engine's own cost
+ * Space Complexity: O(maxEntries), independent of the instances' sizes
+ *
+ * The cache may be shared between threads. The engine runs outside the lock, so two threads
+ * that miss on the same instance at once both solve it.
+ */
+public final class ResultCache {
+
+    /** Inputs smaller than this are solved directly, without touching the cache. */
+    public static final int MIN_CACHED_STICKS = 16;
+
+    private static final long SEED_1 = 0x9E3779B97F4A7C15L;
+    private static final long SEED_2 = 0xC2B2AE3D27D4EB4FL;
+
+    private final int maxEntries;
+    private final ToLongFunction<int[]> engine;
+    private final Map<Key, Long> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Create a cache in front of the adaptive front door, GreedyAlgorithms.connectSticks().
+     *
+     * @param maxEntries number of costs kept
+     * @throws IllegalArgumentException if maxEntries is less than 1
+     */
+    public ResultCache(int maxEntries) {
+        this(maxEntries, GreedyAlgorithms::connectSticks);
+    }
+
+    /**
+     * Create a cache in front of any engine, e.g. GreedyAlgorithms::connectSticksDaryHeap.
+     *
+     * @param maxEntries number of costs kept
+     * @param engine solves the instances that miss; must depend only on the multiset of lengths
+     * @throws IllegalArgumentException if maxEntries is less than 1 or engine is null
+     */
+    public ResultCache(int maxEntries, ToLongFunction<int[]> engine) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one entry, got " + maxEntries);
+        }
+        if (engine == null) {
+            throw new IllegalArgumentException("Engine must not be null");
+        }
+        this.maxEntries = maxEntries;
+        this.engine = engine;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Long> eldest) {
+                if (size() > ResultCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached cost of this multiset of sticks, solving and caching it on a miss.
+     *
+     * @param sticks array of stick lengths; not modified
+     * @return minimum total cost to connect all sticks, as the engine returns it
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the engine fails on overflow; nothing is cached then
+     */
+    public long connectSticks(int[] sticks) {
+        if (sticks == null || sticks.length < MIN_CACHED_STICKS) {
+            return engine.applyAsLong(sticks);
+        }
+
+        Key key = fingerprint(sticks);
+        Long cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+
+        misses.incrementAndGet();
+        long cost = engine.applyAsLong(sticks);
+        synchronized (entries) {
+            entries.put(key, cost);
+        }
+        return cost;
+    }
+
+    /**
+     * One pass over the sticks; the same key for every ordering of the same lengths.
+     */
+    static Key fingerprint(int[] sticks) {
+        long sum1 = 0;
+        long sum2 = 0;
+        for (int stick : sticks) {
+            sum1 += mix(stick ^ SEED_1);
+            sum2 += mix(stick ^ SEED_2);
+        }
+        return new Key(sum1, sum2, sticks.length);
+    }
+
+    /**
+     * SplitMix64 finalizer: every input bit affects every output bit.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return number of calls answered from the cache
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of calls that ran the engine, not counting inputs too small to cache
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of entries dropped to stay within maxEntries
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return hits divided by cacheable calls, 0 before the first one
+     */
+    public double hitRate() {
+        long hit = hits.get();
+        long total = hit + misses.get();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * @return number of costs currently cached
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ResultCache(size=%d of %d, hits=%d, misses=%d, evictions=%d, hitRate=%.3f)",
+            size(), maxEntries, hits(), misses(), evictions(), hitRate());
+    }
+
+    /**
+     * Multiset fingerprint: two mixed sums and the count.
+     */
+    static final class Key {
+
+        private final long sum1;
+        private final long sum2;
+        private final int count;
+
+        Key(long sum1, long sum2, int count) {
+            this.sum1 = sum1;
+            this.sum2 = sum2;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && sum1 == other.sum1 && sum2 == other.sum2 && count == other.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(sum1);
+        }
+    }
+}
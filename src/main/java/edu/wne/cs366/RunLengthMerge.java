@@ -0,0 +1,256 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+
+/**
+ * Run-length two-queue merge used by connectSticksRunLength() and connectSticksHistogram().
+ *
+ * Same two-queue idea as TwoQueueMerge, but every queue entry is a run (length, count) of
+ * equal sticks instead of a single stick:
+ * - Queue 1 holds the distinct original lengths in ascending order with their multiplicities
+ * - Queue 2 is a FIFO of merged runs, which stays sorted because merged sums never decrease
+ *
+ * Each step takes ALL c sticks of the current smallest length v at once:
+ * - c / 2 pairs are merged in bulk: cost += (c / 2) * 2v, and a run (2v, c / 2) is queued
+ * - if c is odd, the one stick left over is merged with the next smallest stick w, exactly as
+ *   the one-at-a-time greedy would: cost += v + w, and a run (v + w, 1) is queued
+ * Equal lengths pairing with each other is precisely what the greedy does when the two
+ * smallest sticks tie, so the total cost is identical to every other engine.
+ *
+ * A run of c sticks is consumed in O(1), and its c / 2 merged sticks come back as a single run,
+ * so the number of steps is about d * log(n) for d distinct lengths rather than n.
+ */
+final class RunLengthMerge {
+
+    // FIFO of merged runs, live between head and tail
+    private long[] mergedLength = new long[16];
+    private long[] mergedCount = new long[16];
+    private int head;
+    private int tail;
+
+    private RunLengthMerge() {
+    }
+
+    /**
+     * @param lengths distinct non-negative lengths in ascending order
+     * @param counts counts[i] sticks of length lengths[i], each count at least 1, totalling at least 2
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long mergeRuns(long[] lengths, long[] counts) {
+        return mergeRuns(lengths, counts, lengths.length);
+    }
+
+    /**
+     * Merge the first `runs` entries of lengths and counts, ignoring the rest of the arrays.
+     * Lets a caller that keeps spare capacity at the end (StickInventory) merge without copying.
+     *
+     * @param lengths distinct non-negative lengths in ascending order, at least `runs` of them
+     * @param counts counts[i] sticks of length lengths[i], each count at least 1, totalling at least 2
+     * @param runs number of runs in use
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long mergeRuns(long[] lengths, long[] counts, int runs) {
+        return new RunLengthMerge().merge(lengths, counts, runs);
+    }
+
+    /**
+     * Build the run-length histogram of an int[] and merge it.
+     *
+     * Counts with a dense array indexed by length when the value range is small enough
+     * (EngineSelector's counting-sort limits), otherwise sorts a copy and collapses equal runs.
+     *
+     * @param sticks non-negative stick lengths, at least two
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long cost(int[] sticks) {
+        long minMax = StickKernels.minMax(sticks);
+        int min = StickKernels.packedMin(minMax);
+        int max = StickKernels.packedMax(minMax);
+
+        long range = (long) max - min + 1;
+        if (range <= (long) EngineSelector.COUNTING_RANGE_FACTOR * sticks.length
+                && range <= EngineSelector.COUNTING_MAX_RANGE) {
+            long[] countByOffset = new long[(int) range];
+            for (int stick : sticks) {
+                countByOffset[stick - min]++;
+            }
+            return mergeDense(countByOffset, min);
+        }
+
+        int[] sorted = sticks.clone();
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                distinct++;
+            }
+        }
+        long[] lengths = new long[distinct];
+        long[] counts = new long[distinct];
+        int run = 0;
+        lengths[0] = sorted[0];
+        for (int stick : sorted) {
+            if (stick != lengths[run]) {
+                lengths[++run] = stick;
+            }
+            counts[run]++;
+        }
+        return mergeRuns(lengths, counts);
+    }
+
+    /**
+     * Merge a dense histogram: countByOffset[i] sticks of length base + i.
+     *
+     * @param countByOffset non-negative counts, totalling at least 2
+     * @param base length of index 0, non-negative
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long mergeDense(long[] countByOffset, long base) {
+        int distinct = 0;
+        for (long count : countByOffset) {
+            if (count > 0) {
+                distinct++;
+            }
+        }
+        long[] lengths = new long[distinct];
+        long[] counts = new long[distinct];
+        int run = 0;
+        for (int i = 0; i < countByOffset.length; i++) {
+            if (countByOffset[i] > 0) {
+                lengths[run] = base + i;
+                counts[run++] = countByOffset[i];
+            }
+        }
+        return mergeRuns(lengths, counts);
+    }
+
+    /**
+     * Merge an arbitrary (length, count) list: lengths in any order, possibly repeated, and
+     * zero counts allowed. Sorts and combines the runs first unless they are already strictly
+     * ascending with no zero counts.
+     *
+     * @param lengths non-negative lengths
+     * @param counts non-negative counts, same size as lengths, totalling at least 2
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long mergeUnordered(long[] lengths, long[] counts) {
+        boolean normalized = true;
+        for (int i = 0; i < lengths.length && normalized; i++) {
+            normalized = counts[i] > 0 && (i == 0 || lengths[i - 1] < lengths[i]);
+        }
+        if (normalized) {
+            return mergeRuns(lengths, counts);
+        }
+
+        // Only d runs, so sorting boxed indices is cheap next to the merge
+        Integer[] order = new Integer[lengths.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(lengths[a], lengths[b]));
+
+        long[] sortedLengths = new long[lengths.length];
+        long[] sortedCounts = new long[lengths.length];
+        int runs = 0;
+        for (int i : order) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (runs > 0 && sortedLengths[runs - 1] == lengths[i]) {
+                sortedCounts[runs - 1] = Math.addExact(sortedCounts[runs - 1], counts[i]);
+            } else {
+                sortedLengths[runs] = lengths[i];
+                sortedCounts[runs++] = counts[i];
+            }
+        }
+        return mergeRuns(Arrays.copyOf(sortedLengths, runs), Arrays.copyOf(sortedCounts, runs));
+    }
+
+    private long merge(long[] lengths, long[] counts, int originals) {
+        int next = 0;
+        // Only the first run of queue 1 is ever partly consumed, so track its remaining count here
+        long nextCount = originals > 0 ? counts[0] : 0;
+
+        long live = 0;
+        for (int i = 0; i < originals; i++) {
+            live = Math.addExact(live, counts[i]);
+        }
+
+        long totalCost = 0;
+        while (live > 1) {
+            // Take every stick of the smallest length v from the fronts of both queues
+            long v;
+            if (next < originals && (head == tail || lengths[next] <= mergedLength[head])) {
+                v = lengths[next];
+            } else {
+                v = mergedLength[head];
+            }
+            long c = 0;
+            if (next < originals && lengths[next] == v) {
+                c += nextCount;
+                if (++next < originals) {
+                    nextCount = counts[next];
+                }
+            }
+            if (head < tail && mergedLength[head] == v) {
+                c += mergedCount[head++];
+            }
+
+            long pairs = c / 2;
+            if (pairs > 0) {
+                long sum = Math.addExact(v, v);
+                totalCost = Math.addExact(totalCost, Math.multiplyExact(pairs, sum));
+                push(sum, pairs);
+                live -= pairs;
+            }
+
+            if (c % 2 == 1 && live > 1) {
+                // The leftover stick of length v joins the next smallest stick w
+                long w;
+                if (next < originals && (head == tail || lengths[next] <= mergedLength[head])) {
+                    w = lengths[next];
+                    if (--nextCount == 0 && ++next < originals) {
+                        nextCount = counts[next];
+                    }
+                } else {
+                    w = mergedLength[head];
+                    if (--mergedCount[head] == 0) {
+                        head++;
+                    }
+                }
+                long sum = Math.addExact(v, w);
+                totalCost = Math.addExact(totalCost, sum);
+                push(sum, 1);
+                live--;
+            }
+        }
+        return totalCost;
+    }
+
+    /**
+     * Append a run to the FIFO, folding it into the last run if the lengths are equal.
+     */
+    private void push(long length, long count) {
+        if (tail > head && mergedLength[tail - 1] == length) {
+            mergedCount[tail - 1] += count;
+            return;
+        }
+        if (tail == mergedLength.length) {
+            // Slide the live runs to the front, growing only if that frees less than half
+            int size = tail - head;
+            int capacity = size <= mergedLength.length / 2 ? mergedLength.length : 2 * mergedLength.length;
+            mergedLength = Arrays.copyOfRange(mergedLength, head, head + capacity);
+            mergedCount = Arrays.copyOfRange(mergedCount, head, head + capacity);
+            head = 0;
+            tail = size;
+        }
+        mergedLength[tail] = length;
+        mergedCount[tail] = count;
+        tail++;
+    }
+}
@@ -0,0 +1,289 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Shadow-mode verification of the adaptive front door: every call is answered by
+ * {@link GreedyAlgorithms#connectSticks(int[])}, and some calls are also checked against the
+ * O(n²) reference engine, within a CPU budget.
+ *
+ * Usage:
+ * <pre>
+ *   ShadowVerifier verifier = new ShadowVerifier(0.01, mismatch -&gt; log.error(mismatch.toString()));
+ *   long cost = verifier.connectSticks(sticks);      // same result as connectSticks(sticks)
+ * </pre>
+ *
+ * What is checked:
+ * - inputs of at most maxOracleSticks sticks are checked whole: the reference cost is compared
+ *   with the answer that was returned
+ * - larger inputs are checked through a random sub-instance of maxOracleSticks of their sticks,
+ *   taken in input order (so sorted inputs stay sorted), run through the same engine the full
+ *   input was dispatched to and through the reference engine
+ *
+ * Budget: the verifier times both sides and only starts a check while the reference engine's
+ * total time is at most cpuBudget times the front door's total time. A check can overshoot by
+ * at most one reference call (bounded by maxOracleSticks), after which checks pause until the
+ * fast path has caught up, so the long-run overhead converges to cpuBudget.
+ *
+ * Mismatches are reported to the listener on the calling thread; the verified call still
+ * returns the front door's answer. The verifier may be shared between threads; concurrent calls
+ * may briefly run over the budget together.
+ */
+public final class ShadowVerifier {
+
+    /** Default size of the instances handed to the reference engine. */
+    public static final int DEFAULT_MAX_ORACLE_STICKS = 512;
+
+    private final double cpuBudget;
+    private final int maxOracleSticks;
+    private final Consumer<? super Mismatch> listener;
+    private final SplittableRandom random;
+
+    /** Engine under test and the name it is reported under; null engine means the front door. */
+    private final ToLongFunction<int[]> engine;
+    private final EngineSelection.Engine engineName;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong sampledChecks = new AtomicLong();
+    private final AtomicLong mismatches = new AtomicLong();
+    private final AtomicLong fastNanos = new AtomicLong();
+    private final AtomicLong oracleNanos = new AtomicLong();
+
+    /**
+     * Create a verifier with DEFAULT_MAX_ORACLE_STICKS and a random seed.
+     *
+     * @param cpuBudget largest share of the front door's CPU time to spend on checks, e.g. 0.01
+     * @param listener called with every mismatch found
+     * @throws IllegalArgumentException if cpuBudget is negative or not finite, or listener is null
+     */
+    public ShadowVerifier(double cpuBudget, Consumer<? super Mismatch> listener) {
+        this(cpuBudget, DEFAULT_MAX_ORACLE_STICKS, new SplittableRandom().nextLong(), listener);
+    }
+
+    /**
+     * @param cpuBudget largest share of the front door's CPU time to spend on checks, e.g. 0.01;
+     *                  0 disables checking
+     * @param maxOracleSticks size of the instances handed to the reference engine, between 2
+     *                        and 16384 (the reference engine's O(n²) guard)
+     * @param seed seed for choosing sub-instances, so a run can be reproduced
+     * @param listener called with every mismatch found
+     * @throws IllegalArgumentException if an argument is out of range or listener is null
+     */
+    public ShadowVerifier(double cpuBudget, int maxOracleSticks, long seed, Consumer<? super Mismatch> listener) {
+        this(cpuBudget, maxOracleSticks, seed, listener, null, null);
+    }
+
+    /**
+     * Verifier of an arbitrary engine, which answers both the calls and the sub-instances.
+     * Lets tests check that a broken engine is caught.
+     */
+    ShadowVerifier(double cpuBudget, int maxOracleSticks, long seed, Consumer<? super Mismatch> listener,
+                   ToLongFunction<int[]> engine, EngineSelection.Engine engineName) {
+        if (!(cpuBudget >= 0) || Double.isInfinite(cpuBudget)) {
+            throw new IllegalArgumentException("CPU budget must be a non-negative fraction, got " + cpuBudget);
+        }
+        if (maxOracleSticks < 2 || maxOracleSticks > ReferenceMerge.MAX_STICKS) {
+            throw new IllegalArgumentException(
+                "Oracle instance size must be between 2 and " + ReferenceMerge.MAX_STICKS + ", got " + maxOracleSticks);
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        this.cpuBudget = cpuBudget;
+        this.maxOracleSticks = maxOracleSticks;
+        this.listener = listener;
+        this.random = new SplittableRandom(seed);
+        this.engine = engine;
+        this.engineName = engineName;
+    }
+
+    /**
+     * Solve with the adaptive front door and, budget permitting, check the answer.
+     *
+     * @param sticks array of stick lengths
+     * @return GreedyAlgorithms.connectSticks(sticks)
+     * @throws IllegalArgumentException if sticks array is null or has less than 2 elements
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public long connectSticks(int[] sticks) {
+        EngineSelection[] selection = new EngineSelection[1];
+        long start = System.nanoTime();
+        long cost = engine == null
+            ? GreedyAlgorithms.connectSticks(sticks, s -> selection[0] = s)
+            : engine.applyAsLong(sticks);
+        long elapsed = System.nanoTime() - start;
+        calls.incrementAndGet();
+        long fastTotal = fastNanos.addAndGet(elapsed);
+
+        if (cpuBudget > 0 && oracleNanos.get() <= cpuBudget * fastTotal) {
+            start = System.nanoTime();
+            check(sticks, selection[0], cost);
+            oracleNanos.addAndGet(System.nanoTime() - start);
+        }
+        return cost;
+    }
+
+    /**
+     * Compare one instance against the reference engine. A sub-instance whose cost overflows
+     * on either side is skipped rather than reported.
+     */
+    private void check(int[] sticks, EngineSelection selection, long cost) {
+        int[] instance;
+        long actual;
+        long expected;
+        boolean sampled = sticks.length > maxOracleSticks;
+        try {
+            if (sampled) {
+                instance = sample(sticks);
+                actual = engine == null ? EngineSelector.run(instance, selection) : engine.applyAsLong(instance);
+            } else {
+                instance = sticks;
+                actual = cost;
+            }
+            long[] lengths = new long[instance.length];
+            for (int i = 0; i < instance.length; i++) {
+                lengths[i] = instance[i];
+            }
+            expected = ReferenceMerge.cost(lengths);
+        } catch (ArithmeticException e) {
+            return;
+        }
+
+        checks.incrementAndGet();
+        if (sampled) {
+            sampledChecks.incrementAndGet();
+        }
+        if (expected != actual) {
+            mismatches.incrementAndGet();
+            EngineSelection.Engine name = engine == null ? selection.engine() : engineName;
+            listener.accept(new Mismatch(instance.clone(), name, sampled, expected, actual));
+        }
+    }
+
+    /**
+     * maxOracleSticks sticks at random positions, kept in input order. Positions may repeat,
+     * which is fine: any multiset of lengths is a valid instance.
+     */
+    private int[] sample(int[] sticks) {
+        int[] positions = new int[maxOracleSticks];
+        synchronized (random) {
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = random.nextInt(sticks.length);
+            }
+        }
+        Arrays.sort(positions);
+        int[] instance = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            instance[i] = sticks[positions[i]];
+        }
+        return instance;
+    }
+
+    /**
+     * @return number of calls answered
+     */
+    public long calls() {
+        return calls.get();
+    }
+
+    /**
+     * @return number of checks run, whole or sampled
+     */
+    public long checks() {
+        return checks.get();
+    }
+
+    /**
+     * @return number of checks run on a sub-instance
+     */
+    public long sampledChecks() {
+        return sampledChecks.get();
+    }
+
+    /**
+     * @return number of mismatches reported to the listener
+     */
+    public long mismatches() {
+        return mismatches.get();
+    }
+
+    /**
+     * @return time spent on checks divided by time spent answering, to compare with the budget
+     */
+    public double oracleShare() {
+        long fast = fastNanos.get();
+        return fast == 0 ? 0 : (double) oracleNanos.get() / fast;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ShadowVerifier(calls=%d, checks=%d, sampled=%d, mismatches=%d, share=%.4f of %.4f)",
+            calls(), checks(), sampledChecks(), mismatches(), oracleShare(), cpuBudget);
+    }
+
+    /**
+     * A check where the engine and the reference engine disagreed.
+     */
+    public static final class Mismatch {
+
+        private final int[] sticks;
+        private final EngineSelection.Engine engine;
+        private final boolean sampled;
+        private final long expected;
+        private final long actual;
+
+        Mismatch(int[] sticks, EngineSelection.Engine engine, boolean sampled, long expected, long actual) {
+            this.sticks = sticks;
+            this.engine = engine;
+            this.sampled = sampled;
+            this.expected = expected;
+            this.actual = actual;
+        }
+
+        /**
+         * @return the instance that was checked, a copy: the whole input, or the sub-instance
+         */
+        public int[] sticks() {
+            return sticks.clone();
+        }
+
+        /**
+         * @return the engine the front door picked for the original input
+         */
+        public EngineSelection.Engine engine() {
+            return engine;
+        }
+
+        /**
+         * @return true if sticks() is a sub-instance of a larger input
+         */
+        public boolean sampled() {
+            return sampled;
+        }
+
+        /**
+         * @return the reference engine's cost
+         */
+        public long expected() {
+            return expected;
+        }
+
+        /**
+         * @return the checked engine's cost
+         */
+        public long actual() {
+            return actual;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Mismatch: %s returned %d, reference %d on %s%d sticks",
+                engine, actual, expected, sampled ? "a sample of " : "", sticks.length);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking client for SolverServer.
+ *
+ * Usage:
+ * <pre>
+ *   try (SolverClient client = SolverClient.connect(server.address())) {
+ *       long cost = client.solve(sticks);           // same result as connectSticksDaryHeap(sticks)
+ *   }
+ * </pre>
+ *
+ * solve() sends one request and waits for its answer. To keep several requests in flight on
+ * one connection, call send() several times and then receive() the same number of times;
+ * answers come back in the order the requests were sent.
+ *
+ * A client is not thread-safe; use one per thread, or one per connection of a pool.
+ */
+public final class SolverClient implements AutoCloseable {
+
+    private final SocketChannel channel;
+    private final SolverProtocol.Reader in;
+
+    private SolverClient(SocketChannel channel) {
+        this.channel = channel;
+        this.in = new SolverProtocol.Reader(channel, 4 * 1024);
+    }
+
+    /**
+     * @param address the server's address, e.g. SolverServer.address()
+     * @return a connected client; close it to disconnect
+     * @throws IllegalArgumentException if address is not a TCP or Unix-domain socket address
+     * @throws IOException if the connection fails
+     */
+    public static SolverClient connect(SocketAddress address) throws IOException {
+        SocketChannel channel;
+        if (address instanceof UnixDomainSocketAddress) {
+            channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        } else if (address instanceof InetSocketAddress) {
+            channel = SocketChannel.open();
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } else {
+            throw new IllegalArgumentException("Need a TCP or Unix-domain socket address, got " + address);
+        }
+        try {
+            channel.connect(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new SolverClient(channel);
+    }
+
+    /**
+     * Send one request and wait for its cost.
+     *
+     * @param sticks array of stick lengths
+     * @return minimum total cost to connect all sticks
+     * @throws IllegalArgumentException if sticks is null, or the server rejects it
+     *                                  (fewer than 2 sticks, or too many)
+     * @throws ArithmeticException if the total cost does not fit in a long
+     * @throws IOException if the connection fails
+     */
+    public long solve(int[] sticks) throws IOException {
+        send(sticks);
+        return receive();
+    }
+
+    /**
+     * Send one request without waiting for its answer.
+     *
+     * @param sticks array of stick lengths
+     * @throws IllegalArgumentException if sticks is null
+     * @throws IOException if the connection fails
+     */
+    public void send(int[] sticks) throws IOException {
+        if (sticks == null) {
+            throw new IllegalArgumentException("Sticks array must not be null");
+        }
+        SolverProtocol.writeFully(channel, SolverProtocol.encodeRequest(sticks));
+    }
+
+    /**
+     * Wait for the answer to the oldest request not yet received.
+     *
+     * @return its minimum total cost
+     * @throws IllegalArgumentException if the server rejected that request
+     * @throws ArithmeticException if its total cost does not fit in a long
+     * @throws IOException if the connection fails or is closed by the server
+     */
+    public long receive() throws IOException {
+        byte status = in.readByte();
+        long value = in.readLong();
+        return SolverProtocol.decodeResponse(status, value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,164 @@
+package edu.wne.cs366;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Wire format shared by SolverServer and SolverClient.
+ *
+ * All integers are big-endian (network byte order).
+ * <pre>
+ *   request:  int32 n, then n x int32 stick lengths
+ *   response: int8 status, then int64 value (the cost if status is OK, otherwise 0)
+ * </pre>
+ *
+ * Responses come back in request order, so a client may pipeline several requests on one
+ * connection without tagging them. A request with n &lt; 0 or n &gt; MAX_STICKS gets a
+ * TOO_LARGE response and the server closes the connection, since the rest of the stream can no
+ * longer be framed.
+ */
+final class SolverProtocol {
+
+    static final byte OK = 0;
+    /** Fewer than two sticks. */
+    static final byte INVALID = 1;
+    /** The cost does not fit in a long; cannot happen within MAX_STICKS int32 lengths. */
+    static final byte OVERFLOW = 2;
+    /** n is negative or larger than MAX_STICKS. */
+    static final byte TOO_LARGE = 3;
+
+    /** Largest request accepted, 64 MB of lengths. */
+    static final int MAX_STICKS = 1 << 24;
+
+    static final int RESPONSE_BYTES = Byte.BYTES + Long.BYTES;
+
+    private SolverProtocol() {
+    }
+
+    /**
+     * Parse a command-line address: a port number means TCP on the loopback interface,
+     * anything else is the path of a Unix-domain socket.
+     */
+    static SocketAddress parseAddress(String address) {
+        if (!address.isEmpty() && address.chars().allMatch(Character::isDigit)) {
+            int port = Integer.parseInt(address);
+            if (port > 65_535) {
+                throw new IllegalArgumentException("Port out of range: " + address);
+            }
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        }
+        return UnixDomainSocketAddress.of(address);
+    }
+
+    /**
+     * @return the whole request, ready to be written
+     */
+    static ByteBuffer encodeRequest(int[] sticks) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * (sticks.length + 1));
+        buffer.putInt(sticks.length);
+        // The int view writes through to the same bytes without moving this buffer's position
+        buffer.asIntBuffer().put(sticks);
+        return buffer.rewind();
+    }
+
+    static void writeFully(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Turn a response back into the result or exception the engine would have produced.
+     */
+    static long decodeResponse(byte status, long value) {
+        return switch (status) {
+            case OK -> value;
+            case INVALID -> throw new IllegalArgumentException("At least two sticks are required");
+            case OVERFLOW -> throw new ArithmeticException("long overflow");
+            case TOO_LARGE -> throw new IllegalArgumentException(
+                "Request rejected: more than " + MAX_STICKS + " sticks");
+            default -> throw new IllegalStateException("Unknown response status " + status);
+        };
+    }
+
+    /**
+     * Buffered big-endian reader over a blocking channel.
+     *
+     * Reads straight from the channel instead of through Channels.newInputStream(), whose
+     * streams lock the channel and would block a concurrent writer on the same socket.
+     */
+    static final class Reader {
+
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        Reader(ReadableByteChannel channel, int bufferSize) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(bufferSize);
+            buffer.flip();
+        }
+
+        /**
+         * Wait for the next message.
+         *
+         * @return false if the peer closed the connection cleanly between messages
+         * @throws EOFException if the peer closed the connection in the middle of a message
+         */
+        boolean hasMore() throws IOException {
+            return fill(1, false);
+        }
+
+        byte readByte() throws IOException {
+            fill(Byte.BYTES, true);
+            return buffer.get();
+        }
+
+        int readInt() throws IOException {
+            fill(Integer.BYTES, true);
+            return buffer.getInt();
+        }
+
+        long readLong() throws IOException {
+            fill(Long.BYTES, true);
+            return buffer.getLong();
+        }
+
+        void readInts(int[] dst) throws IOException {
+            int done = 0;
+            while (done < dst.length) {
+                fill(Integer.BYTES, true);
+                int n = Math.min(buffer.remaining() / Integer.BYTES, dst.length - done);
+                buffer.asIntBuffer().get(dst, done, n);
+                buffer.position(buffer.position() + n * Integer.BYTES);
+                done += n;
+            }
+        }
+
+        private boolean fill(int bytes, boolean required) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+            buffer.compact();
+            try {
+                while (buffer.position() < bytes) {
+                    if (channel.read(buffer) < 0) {
+                        if (required || buffer.position() > 0) {
+                            throw new EOFException("Connection closed before the end of a message");
+                        }
+                        return false;
+                    }
+                }
+            } finally {
+                buffer.flip();
+            }
+            return true;
+        }
+    }
+}
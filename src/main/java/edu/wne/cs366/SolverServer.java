@@ -0,0 +1,557 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-running solver daemon: accepts stick arrays over a local TCP or Unix-domain socket and
+ * answers with their minimum cost, so callers pay for JVM startup and JIT warm-up once instead
+ * of on every call. The wire format is described in SolverProtocol; SolverClient speaks it.
+ *
+ * Usage:
+ * <pre>
+ *   try (SolverServer server = SolverServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 7366))) {
+ *       ...
+ *       System.out.println(server);   // requests, batches, p50/p99 latency, throughput
+ *   }
+ * </pre>
+ * or from the command line: ./gradlew run --args="--serve 7366".
+ *
+ * Implementation Approach:
+ * - Every connection gets two virtual threads: a reader that decodes requests and a writer
+ *   that sends the responses back in request order, so a client may pipeline requests
+ * - Readers put requests on one bounded queue. When it is full, put() blocks the reader,
+ *   which stops reading its socket, so TCP flow control pushes back on the client. Each
+ *   connection also has at most PIPELINE_DEPTH requests outstanding
+ * - Before allocating a request's array, its reader takes that many sticks from a server-wide
+ *   budget of MAX_BUFFERED_STICKS (a fair Semaphore); the writer gives them back once the
+ *   response is written. Memory held by requests therefore stays bounded however many
+ *   connections are open, and a reader that finds the budget spent blocks like one that
+ *   finds the queue full. Each connection first takes the sticks from its own share of
+ *   MAX_CONNECTION_STICKS, so a client that pipelines large requests without reading its
+ *   responses holds at most a quarter of the budget and cannot starve the others
+ * - A single batcher thread takes the first waiting request, then collects more until it has
+ *   maxBatch of them or the first one has waited maxDelay, and hands the micro-batch to a
+ *   virtual thread that solves it with a BatchSolver (largest-first, one reused scratch heap per
+ *   worker) while the batcher goes back to collecting. A batch of one is solved on that thread
+ *   without the further hand-off to the workers
+ * - Requests of LARGE_REQUEST_STICKS or more skip the batcher and are solved on a virtual
+ *   thread of their own, so a slow request never holds up the small ones batched with it
+ * - Latency is measured from the moment a request has been read to the moment its cost is
+ *   known, in a lock-free log-linear histogram (LatencyHistogram)
+ *
+ * The server uses the 64-bit engines, so costs that do not fit in an int are returned exactly.
+ * A cost never overflows a long: it is at most (sum of lengths) x (log2 n + 1), the Huffman
+ * bound, which for MAX_STICKS lengths below 2^31 stays under 2^60. An ArithmeticException is
+ * still mapped to OVERFLOW, defensively, like any other engine failure.
+ */
+public final class SolverServer implements AutoCloseable {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BATCH = 64;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofNanos(100_000);
+
+    /** Requests one connection may have read but not yet answered. */
+    static final int PIPELINE_DEPTH = 256;
+
+    /** Sticks all connections together may have read but not yet answered, 256 MB of lengths. */
+    static final int MAX_BUFFERED_STICKS = 4 * SolverProtocol.MAX_STICKS;
+
+    /** Share of MAX_BUFFERED_STICKS one connection may hold: one request of MAX_STICKS. */
+    static final int MAX_CONNECTION_STICKS = SolverProtocol.MAX_STICKS;
+
+    /** Requests this large (a millisecond or more of solving) are not batched. */
+    static final int LARGE_REQUEST_STICKS = 1 << 16;
+
+    private static final int READ_BUFFER = 64 * 1024;
+    private static final int WRITE_BUFFER = 4 * 1024;
+
+    private final ServerSocketChannel server;
+    private final SocketAddress address;
+    private final BlockingQueue<Request> queue;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final BatchSolver solver;
+    private final Semaphore bufferedSticks = new Semaphore(MAX_BUFFERED_STICKS, true);
+    private final ExecutorService connectionThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService solveThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private final Thread batcher;
+    private volatile boolean closed;
+
+    private final long startNanos = System.nanoTime();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLong connectionsAccepted = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private SolverServer(ServerSocketChannel server, int queueCapacity, int maxBatch, Duration maxDelay)
+            throws IOException {
+        this.server = server;
+        this.address = server.getLocalAddress();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.solver = BatchSolver.virtualThreads();
+        this.acceptor = new Thread(this::acceptLoop, "solver-acceptor");
+        this.batcher = new Thread(this::batchLoop, "solver-batcher");
+        acceptor.setDaemon(true);
+        batcher.setDaemon(true);
+        acceptor.start();
+        batcher.start();
+    }
+
+    /**
+     * Start a server with the default queue capacity, batch size and batching delay.
+     *
+     * @param address an InetSocketAddress (port 0 picks a free port) or a UnixDomainSocketAddress
+     * @return the running server; close it to stop
+     * @throws IOException if the address cannot be bound
+     */
+    public static SolverServer start(SocketAddress address) throws IOException {
+        return start(address, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Start a server.
+     *
+     * @param address an InetSocketAddress (port 0 picks a free port) or a UnixDomainSocketAddress;
+     *                a Unix-domain socket file must not exist yet and is deleted on close()
+     * @param queueCapacity requests waiting to be batched before readers block
+     * @param maxBatch most requests solved in one batch
+     * @param maxDelay longest the first request of a batch waits for more to arrive; zero
+     *                 solves whatever is waiting immediately
+     * @return the running server; close it to stop
+     * @throws IllegalArgumentException if address is null or of an unsupported type,
+     *                                  queueCapacity or maxBatch is less than 1, or maxDelay
+     *                                  is null or negative
+     * @throws IOException if the address cannot be bound
+     */
+    public static SolverServer start(SocketAddress address, int queueCapacity, int maxBatch, Duration maxDelay)
+            throws IOException {
+        if (!(address instanceof InetSocketAddress) && !(address instanceof UnixDomainSocketAddress)) {
+            throw new IllegalArgumentException("Need a TCP or Unix-domain socket address, got " + address);
+        }
+        if (queueCapacity < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException(
+                "Queue capacity and batch size must be at least 1, got " + queueCapacity + " and " + maxBatch);
+        }
+        if (maxDelay == null || maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Batching delay must not be negative, got " + maxDelay);
+        }
+
+        ServerSocketChannel server = address instanceof UnixDomainSocketAddress
+            ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+            : ServerSocketChannel.open();
+        try {
+            server.bind(address);
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        return new SolverServer(server, queueCapacity, maxBatch, maxDelay);
+    }
+
+    /**
+     * @return the bound address, with the actual port if port 0 was requested
+     */
+    public SocketAddress address() {
+        return address;
+    }
+
+    /**
+     * @return number of requests answered, including failed ones
+     */
+    public long requests() {
+        return requests.get();
+    }
+
+    /**
+     * @return number of requests answered with an error status
+     */
+    public long failures() {
+        return failures.get();
+    }
+
+    /**
+     * @return number of batches solved
+     */
+    public long batches() {
+        return batches.get();
+    }
+
+    /**
+     * @return connections accepted since start
+     */
+    public long connections() {
+        return connectionsAccepted.get();
+    }
+
+    /**
+     * @return sticks left in the buffering budget, MAX_BUFFERED_STICKS when nothing is in flight
+     */
+    int availableSticks() {
+        return bufferedSticks.availablePermits();
+    }
+
+    /**
+     * @param percentile between 0 and 100, e.g. 50 or 99
+     * @return latency from request read to cost known, in nanoseconds, within 12.5%
+     */
+    public long latencyNanos(double percentile) {
+        return latency.percentile(percentile);
+    }
+
+    /**
+     * @return requests answered per second since start
+     */
+    public double throughput() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds > 0 ? requests.get() / seconds : 0;
+    }
+
+    @Override
+    public String toString() {
+        long done = batches.get();
+        return String.format("SolverServer(%s, connections=%d, requests=%d, failures=%d, batches=%d, "
+                + "meanBatch=%.1f, p50=%.1f us, p99=%.1f us, throughput=%.0f/s)",
+            address, connections(), requests(), failures(), done,
+            done == 0 ? 0.0 : (double) latency.count() / done,
+            latencyNanos(50) / 1e3, latencyNanos(99) / 1e3, throughput());
+    }
+
+    /**
+     * Stop accepting, close every connection and wait for the server threads to finish.
+     * Requests still queued are dropped; their clients see the connection close.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        server.close();
+        for (SocketChannel connection : connections) {
+            closeQuietly(connection);
+        }
+        batcher.interrupt();
+        try {
+            acceptor.join();
+            batcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Interrupt readers blocked on the full queue and writers waiting for a cost
+        connectionThreads.shutdownNow();
+        connectionThreads.close();
+        // Readers and the batcher are gone, so nothing submits any more; interrupt batches
+        // still waiting on the solver
+        solveThreads.shutdownNow();
+        solveThreads.close();
+        solver.close();
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath());
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            SocketChannel connection;
+            try {
+                connection = server.accept();
+            } catch (IOException e) {
+                // ClosedChannelException (or AsynchronousCloseException) once close() runs
+                return;
+            }
+            connectionsAccepted.incrementAndGet();
+            connections.add(connection);
+            if (closed) {
+                closeQuietly(connection);
+                return;
+            }
+            BlockingQueue<Request> pending = new ArrayBlockingQueue<>(PIPELINE_DEPTH);
+            connectionThreads.submit(() -> readRequests(connection, pending));
+            connectionThreads.submit(() -> writeResponses(connection, pending));
+        }
+    }
+
+    /**
+     * Connection reader: decode requests and hand them to the writer (in order) and the batcher.
+     */
+    private void readRequests(SocketChannel connection, BlockingQueue<Request> pending) {
+        try {
+            if (connection.getLocalAddress() instanceof InetSocketAddress) {
+                connection.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            }
+            SolverProtocol.Reader in = new SolverProtocol.Reader(connection, READ_BUFFER);
+            Semaphore share = new Semaphore(MAX_CONNECTION_STICKS);
+            while (in.hasMore()) {
+                int n = in.readInt();
+                if (n < 0 || n > SolverProtocol.MAX_STICKS) {
+                    Request rejected = new Request(new int[0], share, System.nanoTime());
+                    pending.put(rejected);
+                    fail(rejected, new StatusException(SolverProtocol.TOO_LARGE));
+                    break;
+                }
+                // Given back by release() once the response is written, or here if the request
+                // never reaches the writer. The connection's share comes first, so a reader
+                // waiting on it holds nothing of the server-wide budget
+                share.acquire(n);
+                Request request;
+                boolean queued = false;
+                try {
+                    bufferedSticks.acquire(n);
+                    try {
+                        int[] sticks = new int[n];
+                        in.readInts(sticks);
+                        request = new Request(sticks, share, System.nanoTime());
+                        pending.put(request);
+                        queued = true;
+                    } finally {
+                        if (!queued) {
+                            bufferedSticks.release(n);
+                        }
+                    }
+                } finally {
+                    if (!queued) {
+                        share.release(n);
+                    }
+                }
+                if (n < 2) {
+                    fail(request, new IllegalArgumentException("At least two sticks are required, got " + n));
+                } else if (n >= LARGE_REQUEST_STICKS) {
+                    solveThreads.execute(() -> solve(List.of(request)));
+                } else {
+                    queue.put(request);
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // Peer went away or the server is closing
+        } finally {
+            try {
+                // The writer drains the pipeline until it sees this, even after a failed write
+                pending.put(Request.END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Connection writer: send each response once its cost is known, in request order.
+     */
+    private void writeResponses(SocketChannel connection, BlockingQueue<Request> pending) {
+        ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER);
+        try {
+            while (true) {
+                Request request = pending.take();
+                if (request == Request.END) {
+                    break;
+                }
+                encode(request, out);
+                // Coalesce responses that are already done into the same write
+                Request next;
+                while (out.remaining() >= SolverProtocol.RESPONSE_BYTES
+                        && (next = pending.peek()) != null && next != Request.END && next.result.isDone()) {
+                    encode(pending.poll(), out);
+                }
+                out.flip();
+                SolverProtocol.writeFully(connection, out);
+                out.clear();
+            }
+        } catch (IOException e) {
+            // Peer stopped reading: close the socket so the reader stops too, and keep taking
+            // requests off the pipeline so the reader never blocks on it
+            closeQuietly(connection);
+            drainUntilEnd(pending);
+        } catch (InterruptedException e) {
+            // The server is closing
+        } finally {
+            connections.remove(connection);
+            closeQuietly(connection);
+        }
+    }
+
+    private void drainUntilEnd(BlockingQueue<Request> pending) {
+        try {
+            while (true) {
+                Request request = pending.take();
+                if (request == Request.END) {
+                    return;
+                }
+                // A solver may still hold the sticks, so give them back once it is done
+                request.result.whenComplete((cost, e) -> release(request));
+            }
+        } catch (InterruptedException e) {
+            // The server is closing
+        }
+    }
+
+    private void encode(Request request, ByteBuffer out) throws InterruptedException {
+        byte status;
+        long value = 0;
+        try {
+            value = request.result.get();
+            status = SolverProtocol.OK;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            status = cause instanceof StatusException s ? s.status
+                : cause instanceof ArithmeticException ? SolverProtocol.OVERFLOW
+                : SolverProtocol.INVALID;
+        }
+        out.put(status).putLong(value);
+        release(request);
+    }
+
+    /**
+     * Give a request's sticks back to the server-wide budget and to its connection's share.
+     */
+    private void release(Request request) {
+        int n = request.sticks.length;
+        bufferedSticks.release(n);
+        request.share.release(n);
+    }
+
+    private void batchLoop() {
+        while (!closed) {
+            List<Request> batch = new ArrayList<>(maxBatch);
+            try {
+                Request first = queue.take();
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                long deadline = first.receivedNanos + maxDelayNanos;
+                while (batch.size() < maxBatch) {
+                    long wait = deadline - System.nanoTime();
+                    Request more = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+                    if (more == null) {
+                        break;
+                    }
+                    batch.add(more);
+                    queue.drainTo(batch, maxBatch - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // close() interrupts the batcher; drop what was collected
+                return;
+            }
+            solveThreads.execute(() -> solve(batch));
+        }
+    }
+
+    private void solve(List<Request> batch) {
+        batches.incrementAndGet();
+        if (batch.size() == 1) {
+            solveOne(batch.get(0));
+            return;
+        }
+        int[][] instances = new int[batch.size()][];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = batch.get(i).sticks;
+        }
+        long[] costs;
+        try {
+            costs = solver.solve(instances);
+        } catch (RuntimeException e) {
+            // The solver was interrupted by close()
+            for (Request request : batch) {
+                fail(request, e);
+            }
+            return;
+        }
+        for (int i = 0; i < costs.length; i++) {
+            succeed(batch.get(i), costs[i]);
+        }
+    }
+
+    private void solveOne(Request request) {
+        long cost;
+        try {
+            cost = GreedyAlgorithms.connectSticksDaryHeap(request.sticks);
+        } catch (RuntimeException e) {
+            fail(request, e);
+            return;
+        }
+        succeed(request, cost);
+    }
+
+    // Counters are updated before the result is published, so a client that has its answer
+    // always sees it counted
+
+    private void succeed(Request request, long cost) {
+        latency.record(System.nanoTime() - request.receivedNanos);
+        requests.incrementAndGet();
+        request.result.complete(cost);
+    }
+
+    private void fail(Request request, RuntimeException e) {
+        latency.record(System.nanoTime() - request.receivedNanos);
+        requests.incrementAndGet();
+        failures.incrementAndGet();
+        request.result.completeExceptionally(e);
+    }
+
+    private static void closeQuietly(SocketChannel connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // Nothing left to do with a connection that fails to close
+        }
+    }
+
+    /**
+     * One decoded request and the cost it is waiting for.
+     */
+    private static final class Request {
+
+        /** Tells a connection writer that its reader has finished. */
+        static final Request END = new Request(new int[0], null, 0);
+
+        final int[] sticks;
+        /** The connection's share of the budget that the sticks were taken from. */
+        final Semaphore share;
+        final long receivedNanos;
+        final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        Request(int[] sticks, Semaphore share, long receivedNanos) {
+            this.sticks = sticks;
+            this.share = share;
+            this.receivedNanos = receivedNanos;
+        }
+    }
+
+    /**
+     * Carries a protocol status that no engine exception maps to.
+     */
+    private static final class StatusException extends RuntimeException {
+
+        final byte status;
+
+        StatusException(byte status) {
+            super(null, null, false, false);
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package edu.wne.cs366;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded single-producer single-consumer ring of longs, used between the stages of
+ * PipelinedMerge.
+ *
+ * Lock-free: each side owns one counter and only reads the other's.
+ * - tail counts longs ever written; only the producer advances it
+ * - head counts longs ever read; only the consumer advances it
+ * - a counter is published with a release store (lazySet) after the slots it covers have been
+ *   written or read, and read with a volatile load, so slots are never touched by both sides
+ *   at once
+ * - each side caches the other's counter and only reloads it when the ring looks full (or
+ *   empty), so a steady stream costs about one volatile load per batch rather than per long
+ *
+ * Transfers are in bulk (put/take of whole arrays) to keep the per-stick cost to a copy.
+ * A side that has to wait spins briefly, then yields, then parks for short intervals, so a
+ * pipeline with more threads than cores still makes progress.
+ *
+ * End of stream: the producer calls close() after its last put, or fail() instead if it cannot
+ * finish; the consumer calls cancel() to make a blocked producer give up.
+ */
+final class SpscLongRing {
+
+    private static final int SPINS = 64;
+    private static final int YIELDS = 64;
+    private static final long PARK_NANOS = 20_000;
+
+    private final long[] buffer;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    // Producer side: its own position and the last head it saw
+    private long producerTail;
+    private long cachedHead;
+
+    // Consumer side: its own position and the last tail it saw
+    private long consumerHead;
+    private long cachedTail;
+
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+    private volatile RuntimeException failure;
+
+    /**
+     * @param capacity number of longs the ring holds; a power of two
+     */
+    SpscLongRing(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        buffer = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Producer: write src[from .. from + length - 1], waiting for space as needed.
+     *
+     * @return false if the consumer cancelled before everything was written
+     */
+    boolean put(long[] src, int from, int length) {
+        int end = from + length;
+        int idle = 0;
+        while (from < end) {
+            long free = buffer.length - (producerTail - cachedHead);
+            if (free == 0) {
+                cachedHead = head.get();
+                free = buffer.length - (producerTail - cachedHead);
+            }
+            if (free == 0) {
+                if (cancelled) {
+                    return false;
+                }
+                idle = idle(idle);
+                continue;
+            }
+            idle = 0;
+
+            // Copy up to the wrap point at most; the next iteration copies the rest
+            int n = (int) Math.min(Math.min(free, end - from), buffer.length - (producerTail & mask));
+            System.arraycopy(src, from, buffer, (int) (producerTail & mask), n);
+            from += n;
+            producerTail += n;
+            tail.lazySet(producerTail);
+        }
+        return !cancelled;
+    }
+
+    /**
+     * Producer: no more longs will be written.
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Producer: the stream cannot be completed; take() rethrows the failure.
+     */
+    void fail(RuntimeException e) {
+        failure = e;
+        closed = true;
+    }
+
+    /**
+     * Consumer: read up to dst.length longs, waiting until at least one is available.
+     *
+     * @return number of longs read, or -1 once the ring is closed and empty
+     * @throws RuntimeException the failure passed to fail(), once the longs before it are read
+     */
+    int take(long[] dst) {
+        int idle = 0;
+        while (true) {
+            long available = cachedTail - consumerHead;
+            if (available == 0) {
+                // Read closed before tail: a close() seen here means every put is visible too
+                boolean done = closed;
+                cachedTail = tail.get();
+                available = cachedTail - consumerHead;
+                if (available == 0 && done) {
+                    RuntimeException e = failure;
+                    if (e != null) {
+                        throw e;
+                    }
+                    return -1;
+                }
+            }
+            if (available == 0) {
+                idle = idle(idle);
+                continue;
+            }
+
+            int n = (int) Math.min(Math.min(available, dst.length), buffer.length - (consumerHead & mask));
+            System.arraycopy(buffer, (int) (consumerHead & mask), dst, 0, n);
+            consumerHead += n;
+            head.lazySet(consumerHead);
+            return n;
+        }
+    }
+
+    /**
+     * Consumer: stop reading; a producer blocked in put() returns false.
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    private static int idle(int idle) {
+        if (idle < SPINS) {
+            Thread.onSpinWait();
+        } else if (idle < SPINS + YIELDS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+            return idle;
+        }
+        return idle + 1;
+    }
+}
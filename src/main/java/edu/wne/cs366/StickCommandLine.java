@@ -0,0 +1,312 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Command line front end used by GreedyAlgorithms.main() when arguments are given.
+ *
+ * Usage:
+ * <pre>
+ *   ./gradlew run --args="&lt;stick-file&gt; [engine]"
+ *   ./gradlew run --args="--generate &lt;stick-file&gt; &lt;count&gt; &lt;min&gt; &lt;max&gt; [--int64] [--sorted]"
+ *   ./gradlew run --args="--serve &lt;port|socket-path&gt; [--queue n] [--batch n] [--delay-us n]"
+ *   ./gradlew run --args="--load &lt;port|socket-path&gt; [--connections n] [--requests n] [--sticks n] [--depth n]"
+ * </pre>
+ *
+ * --serve runs a SolverServer on a loopback TCP port or a Unix-domain socket path until the
+ * process is stopped; --load drives a running server with LoadGenerator and prints the
+ * client-side throughput and latency percentiles.
+ *
+ * Engines: auto (default), naive, heap, primitive, twoqueue, parallel, plan, stream, histogram,
+ * pipelined. Every engine except stream, histogram and pipelined copies the file into an array
+ * first. pipelined reads and sorts slices of the mapping on worker threads while the main
+ * thread merges them. stream reads the mapped file directly and is the one to use for files
+ * larger than the heap. histogram counts lengths straight out of the mapping into a dense
+ * histogram and runs the run-length merge, so its heap use depends on the value range, not on
+ * the number of sticks. auto runs connectSticks() and prints the engine it picked; on int64
+ * files it runs twoqueue. naive, heap, primitive and twoqueue run their 64-bit "...Long"
+ * variants so the cost never wraps; parallel and plan need an int32 file. The off-heap engine,
+ * which also handles files of more than 2^31 - 1 sticks, has its own entry point
+ * (./gradlew runOffHeap, see OffHeapAlgorithms) because it needs --enable-preview.
+ *
+ * Exit status: 0 on success, 1 if the file cannot be read or solved, 2 on a usage error.
+ */
+final class StickCommandLine {
+
+    static final String DEFAULT_ENGINE = "auto";
+
+    /** How often --serve prints the server's counters. */
+    static final int STATS_INTERVAL_SECONDS = 10;
+
+    private StickCommandLine() {
+    }
+
+    /**
+     * @param args command line arguments
+     * @param out receives the results
+     * @param err receives usage and error messages
+     * @return process exit status
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length > 0 && args[0].equals("--generate")) {
+            return generate(args, out, err);
+        }
+        if (args.length > 0 && args[0].equals("--serve")) {
+            return serve(args, out, err);
+        }
+        if (args.length > 0 && args[0].equals("--load")) {
+            return load(args, out, err);
+        }
+        if (args.length < 1 || args.length > 2 || args[0].startsWith("--")) {
+            printUsage(err);
+            return 2;
+        }
+
+        String engine = args.length == 2 ? args[1] : DEFAULT_ENGINE;
+        try (StickFile file = StickFile.open(Path.of(args[0]))) {
+            long start = System.nanoTime();
+            String cost = solve(file, engine, out);
+            if (cost == null) {
+                err.println("Unknown engine: " + engine);
+                printUsage(err);
+                return 2;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            out.printf("File:    %s (%d sticks, int%d%s)%n", args[0], file.count(),
+                file.elementWidth() * 8, file.isSorted() ? ", sorted" : "");
+            out.printf("Engine:  %s%n", engine);
+            out.printf("Cost:    %s%n", cost);
+            out.printf("Time:    %.3f ms%n", elapsed / 1_000_000.0);
+            return 0;
+        } catch (IOException | UncheckedIOException | IllegalArgumentException | IllegalStateException
+                | ArithmeticException e) {
+            // UncheckedIOException: an engine's scratch file could not be created or mapped
+            err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * @return the cost as text, or null if the engine name is unknown
+     */
+    private static String solve(StickFile file, String engine, PrintStream out) {
+        return switch (engine) {
+            case "auto" -> file.elementWidth() == Integer.BYTES
+                ? Long.toString(GreedyAlgorithms.connectSticks(file.readInts(), s -> out.println("Picked:  " + s)))
+                : Long.toString(GreedyAlgorithms.connectSticksTwoQueueLong(file.readLongs()));
+            case "naive" -> Long.toString(GreedyAlgorithms.connectSticksNaiveLong(file.readLongs()));
+            case "heap" -> Long.toString(GreedyAlgorithms.connectSticksHeapLong(file.readLongs()));
+            case "primitive" -> Long.toString(GreedyAlgorithms.connectSticksPrimitiveHeapLong(file.readLongs()));
+            case "twoqueue" -> Long.toString(GreedyAlgorithms.connectSticksTwoQueueLong(file.readLongs()));
+            case "parallel" -> Long.toString(GreedyAlgorithms.connectSticksParallel(file.readInts()));
+            case "plan" -> {
+                MergePlan plan = GreedyAlgorithms.connectSticksWithPlan(file.readInts());
+                yield plan.cost() + " (" + plan.steps() + " steps)";
+            }
+            case "stream" -> Long.toString(GreedyAlgorithms.connectSticksStreaming(file));
+            case "pipelined" -> Long.toString(GreedyAlgorithms.connectSticksPipelined(file));
+            case "histogram" -> Long.toString(histogramCost(file));
+            default -> null;
+        };
+    }
+
+    /**
+     * Count the mapped lengths into a dense histogram and merge it, in two sequential passes.
+     */
+    private static long histogramCost(StickFile file) {
+        if (file.count() < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + file.count());
+        }
+        long[] range = {Long.MAX_VALUE, Long.MIN_VALUE};
+        file.forEach(stick -> {
+            range[0] = Math.min(range[0], stick);
+            range[1] = Math.max(range[1], stick);
+        });
+        long min = range[0];
+        if (min < 0) {
+            throw new IllegalArgumentException("File contains negative length " + min);
+        }
+        if (range[1] - min >= EngineSelector.COUNTING_MAX_RANGE) {
+            throw new IllegalStateException("Lengths span " + min + ".." + range[1]
+                + ", too wide for the histogram engine; use stream");
+        }
+
+        long[] countByOffset = new long[(int) (range[1] - min + 1)];
+        file.forEach(stick -> countByOffset[(int) (stick - min)]++);
+        return RunLengthMerge.mergeDense(countByOffset, min);
+    }
+
+    private static int generate(String[] args, PrintStream out, PrintStream err) {
+        if (args.length < 5) {
+            printUsage(err);
+            return 2;
+        }
+        boolean int64 = false;
+        boolean sorted = false;
+        for (int i = 5; i < args.length; i++) {
+            switch (args[i]) {
+                case "--int64" -> int64 = true;
+                case "--sorted" -> sorted = true;
+                default -> {
+                    err.println("Unknown option: " + args[i]);
+                    printUsage(err);
+                    return 2;
+                }
+            }
+        }
+
+        int count;
+        long min;
+        long max;
+        try {
+            count = Integer.parseInt(args[2]);
+            min = Long.parseLong(args[3]);
+            max = Long.parseLong(args[4]);
+        } catch (NumberFormatException e) {
+            err.println("Error: count, min and max must be integers");
+            return 2;
+        }
+        if (count < 0 || min < 0 || min > max || (!int64 && max > Integer.MAX_VALUE)) {
+            err.println("Error: need count >= 0 and 0 <= min <= max" + (int64 ? "" : " <= " + Integer.MAX_VALUE));
+            return 2;
+        }
+
+        Random random = new Random();
+        long[] sticks = new long[count];
+        for (int i = 0; i < count; i++) {
+            // Computed in double so max - min + 1 cannot overflow; clamp the rounding at the top
+            sticks[i] = Math.min(max, min + (long) (random.nextDouble() * ((double) max - min + 1)));
+        }
+        if (sorted) {
+            Arrays.sort(sticks);
+        }
+
+        try {
+            Path path = Path.of(args[1]);
+            if (int64) {
+                StickFile.writeInt64(path, sticks);
+            } else {
+                int[] ints = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ints[i] = (int) sticks[i];
+                }
+                StickFile.writeInt32(path, ints);
+            }
+        } catch (IOException e) {
+            err.println("Error: " + e.getMessage());
+            return 1;
+        }
+        out.printf("Wrote %d sticks to %s%n", count, args[1]);
+        return 0;
+    }
+
+    /**
+     * Run a SolverServer until the process is stopped, printing its counters every
+     * STATS_INTERVAL_SECONDS and once more on shutdown.
+     */
+    private static int serve(String[] args, PrintStream out, PrintStream err) {
+        Map<String, Integer> options = parseOptions(args, Map.of(
+            "--queue", SolverServer.DEFAULT_QUEUE_CAPACITY,
+            "--batch", SolverServer.DEFAULT_MAX_BATCH,
+            "--delay-us", (int) (SolverServer.DEFAULT_MAX_DELAY.toNanos() / 1000)), err);
+        if (options == null) {
+            return 2;
+        }
+
+        SolverServer server;
+        try {
+            server = SolverServer.start(SolverProtocol.parseAddress(args[1]), options.get("--queue"),
+                options.get("--batch"), Duration.ofNanos(options.get("--delay-us") * 1000L));
+        } catch (IOException | IllegalArgumentException e) {
+            err.println("Error: " + e.getMessage());
+            return 1;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.close();
+            } catch (IOException e) {
+                // Exiting anyway
+            }
+            out.println(server);
+        }));
+
+        out.printf("Listening on %s%n", server.address());
+        while (true) {
+            try {
+                Thread.sleep(STATS_INTERVAL_SECONDS * 1000L);
+            } catch (InterruptedException e) {
+                return 0;
+            }
+            out.println(server);
+        }
+    }
+
+    /**
+     * Drive a running server with LoadGenerator and print the client-side results.
+     */
+    private static int load(String[] args, PrintStream out, PrintStream err) {
+        Map<String, Integer> options = parseOptions(args, Map.of(
+            "--connections", 16,
+            "--requests", 10_000,
+            "--sticks", 100,
+            "--depth", 1), err);
+        if (options == null) {
+            return 2;
+        }
+
+        try {
+            LoadGenerator.Report report = LoadGenerator.run(SolverProtocol.parseAddress(args[1]),
+                options.get("--connections"), options.get("--requests"), options.get("--sticks"),
+                options.get("--depth"), 366L);
+            out.println(report);
+            return 0;
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Parse "--mode &lt;address&gt; [--name value]..." into the defaults overridden by the
+     * options given.
+     *
+     * @return the option values, or null after printing the usage if the arguments are invalid
+     */
+    private static Map<String, Integer> parseOptions(String[] args, Map<String, Integer> defaults, PrintStream err) {
+        if (args.length < 2 || args.length % 2 != 0 || args[1].startsWith("--")) {
+            printUsage(err);
+            return null;
+        }
+        Map<String, Integer> options = new HashMap<>(defaults);
+        for (int i = 2; i < args.length; i += 2) {
+            if (!defaults.containsKey(args[i])) {
+                err.println("Unknown option: " + args[i]);
+                printUsage(err);
+                return null;
+            }
+            try {
+                options.put(args[i], Integer.parseInt(args[i + 1]));
+            } catch (NumberFormatException e) {
+                err.println("Error: " + args[i] + " needs an integer, got " + args[i + 1]);
+                return null;
+            }
+        }
+        return options;
+    }
+
+    private static void printUsage(PrintStream err) {
+        err.println("Usage: <stick-file> [auto|naive|heap|primitive|twoqueue|parallel|plan|stream|histogram|pipelined]");
+        err.println("       --generate <stick-file> <count> <min> <max> [--int64] [--sorted]");
+        err.println("       --serve <port|socket-path> [--queue <n>] [--batch <n>] [--delay-us <n>]");
+        err.println("       --load <port|socket-path> [--connections <n>] [--requests <n>] [--sticks <n>] [--depth <n>]");
+    }
+}
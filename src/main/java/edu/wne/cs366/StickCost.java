@@ -0,0 +1,97 @@
+package edu.wne.cs366;
+
+import java.math.BigInteger;
+
+/**
+ * Total connection cost returned by {@link GreedyAlgorithms#connectSticksExact(long[])}.
+ *
+ * Records which path produced the value:
+ * - {@link Path#LONG}: the cost fit in a {@code long} and was computed by the 64-bit engine
+ * - {@link Path#BIG_INTEGER}: the 64-bit engine detected an overflow, so the cost was
+ *   recomputed with arbitrary-precision arithmetic
+ *
+ * The common in-range case stores a plain {@code long}; a {@link BigInteger} is only created
+ * on the fallback path or when {@link #value()} is called.
+ */
+public final class StickCost {
+
+    /**
+     * Which arithmetic path produced the cost.
+     */
+    public enum Path {
+        /** Computed entirely with 64-bit arithmetic. */
+        LONG,
+        /** 64-bit arithmetic overflowed; computed with BigInteger. */
+        BIG_INTEGER
+    }
+
+    private final long longValue;
+    private final BigInteger bigValue;
+
+    private StickCost(long longValue, BigInteger bigValue) {
+        this.longValue = longValue;
+        this.bigValue = bigValue;
+    }
+
+    static StickCost ofLong(long cost) {
+        return new StickCost(cost, null);
+    }
+
+    static StickCost ofBigInteger(BigInteger cost) {
+        return new StickCost(0, cost);
+    }
+
+    /**
+     * @return the path that produced this cost
+     */
+    public Path path() {
+        return bigValue == null ? Path.LONG : Path.BIG_INTEGER;
+    }
+
+    /**
+     * @return true if the cost fits in a long, i.e. {@link #longValueExact()} will not throw
+     */
+    public boolean fitsInLong() {
+        return bigValue == null;
+    }
+
+    /**
+     * @return the cost as a long
+     * @throws ArithmeticException if the cost does not fit in a long
+     */
+    public long longValueExact() {
+        if (bigValue != null) {
+            throw new ArithmeticException("Total cost " + bigValue + " does not fit in a long");
+        }
+        return longValue;
+    }
+
+    /**
+     * @return the exact cost
+     */
+    public BigInteger value() {
+        return bigValue == null ? BigInteger.valueOf(longValue) : bigValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StickCost)) {
+            return false;
+        }
+        StickCost other = (StickCost) o;
+        return value().equals(other.value());
+    }
+
+    @Override
+    public int hashCode() {
+        return value().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value() + " (" + path() + ")";
+    }
+}
@@ -0,0 +1,332 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+/**
+ * Compact binary stick file, read through memory mapping.
+ *
+ * File layout (all multi-byte fields little-endian):
+ * <pre>
+ *   offset  size  field
+ *   0       4     magic "STIK"
+ *   4       2     format version (currently 1)
+ *   6       1     element width in bytes: 4 (int32 lengths) or 8 (int64 lengths)
+ *   7       1     flags: bit 0 set if the lengths are sorted ascending
+ *   8       8     stick count n
+ *   16      n*w   stick lengths
+ * </pre>
+ *
+ * Reading: open() maps the payload with FileChannel.map in regions of at most 1 GiB, so files
+ * far larger than both the 2 GiB ByteBuffer limit and the Java heap can be read. forEach()
+ * streams lengths straight out of the mapping, with no intermediate copy, and
+ * GreedyAlgorithms.connectSticksStreaming() uses it to solve a file without ever holding it on
+ * the heap. readInts()/readLongs() copy the file into an array for the engines that need one.
+ *
+ * The mapping is released when this object becomes unreachable; close() only closes the channel.
+ */
+public final class StickFile implements AutoCloseable {
+
+    /** Bytes "STIK" read as a little-endian int. */
+    static final int MAGIC = 0x4B495453;
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final byte FLAG_SORTED = 1;
+
+    /** Largest region mapped at once; a multiple of both element widths. */
+    private static final long REGION_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final long count;
+    private final int elementWidth;
+    private final boolean sorted;
+    private final MappedByteBuffer[] regions;
+
+    private StickFile(FileChannel channel, long count, int elementWidth, boolean sorted,
+                      MappedByteBuffer[] regions) {
+        this.channel = channel;
+        this.count = count;
+        this.elementWidth = elementWidth;
+        this.sorted = sorted;
+        this.regions = regions;
+    }
+
+    /**
+     * Open and memory-map a stick file.
+     *
+     * @param path file to open
+     * @return the mapped file; close it when done
+     * @throws IOException if the file cannot be read or is not a valid stick file
+     */
+    public static StickFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            if (header.hasRemaining()) {
+                throw new IOException(path + " is too short to be a stick file");
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException(path + " is not a stick file (bad magic)");
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException(path + " has unsupported stick file version " + version);
+            }
+            int width = header.get();
+            if (width != Integer.BYTES && width != Long.BYTES) {
+                throw new IOException(path + " has unsupported element width " + width);
+            }
+            boolean sorted = (header.get() & FLAG_SORTED) != 0;
+            long count = header.getLong();
+            long payloadBytes = channel.size() - HEADER_BYTES;
+            if (count < 0 || count > payloadBytes / width) {
+                throw new IOException(path + " declares " + count + " sticks but holds only "
+                    + payloadBytes / width);
+            }
+
+            long bytes = count * width;
+            int regionCount = (int) ((bytes + REGION_BYTES - 1) / REGION_BYTES);
+            MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+            for (int r = 0; r < regionCount; r++) {
+                long offset = r * REGION_BYTES;
+                long size = Math.min(REGION_BYTES, bytes - offset);
+                regions[r] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + offset, size);
+                regions[r].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new StickFile(channel, count, width, sorted, regions);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Write int32 sticks to a new stick file, replacing any existing file.
+     *
+     * The sorted flag is set automatically when the lengths are in ascending order.
+     *
+     * @param path file to write
+     * @param sticks stick lengths
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeInt32(Path path, int[] sticks) throws IOException {
+        boolean sorted = true;
+        for (int i = 1; i < sticks.length && sorted; i++) {
+            sorted = sticks[i - 1] <= sticks[i];
+        }
+        try (FileChannel channel = openForWrite(path)) {
+            writeHeader(channel, Integer.BYTES, sorted, sticks.length);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (int stick : sticks) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(stick);
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Write int64 sticks to a new stick file, replacing any existing file.
+     *
+     * The sorted flag is set automatically when the lengths are in ascending order.
+     *
+     * @param path file to write
+     * @param sticks stick lengths
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeInt64(Path path, long[] sticks) throws IOException {
+        boolean sorted = true;
+        for (int i = 1; i < sticks.length && sorted; i++) {
+            sorted = sticks[i - 1] <= sticks[i];
+        }
+        try (FileChannel channel = openForWrite(path)) {
+            writeHeader(channel, Long.BYTES, sorted, sticks.length);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            for (long stick : sticks) {
+                if (buffer.remaining() < Long.BYTES) {
+                    drain(channel, buffer);
+                }
+                buffer.putLong(stick);
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * @return number of sticks in the file
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return bytes per stick length: 4 for int32 files, 8 for int64 files
+     */
+    public int elementWidth() {
+        return elementWidth;
+    }
+
+    /**
+     * @return true if the header says the lengths are sorted ascending
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Stream every length, in file order, straight from the mapping.
+     *
+     * @param action called once per stick
+     */
+    public void forEach(LongConsumer action) {
+        for (MappedByteBuffer region : regions) {
+            if (elementWidth == Integer.BYTES) {
+                IntBuffer ints = region.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                for (int i = 0, n = ints.limit(); i < n; i++) {
+                    action.accept(ints.get(i));
+                }
+            } else {
+                LongBuffer longs = region.duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+                for (int i = 0, n = longs.limit(); i < n; i++) {
+                    action.accept(longs.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy an int32 file into an array.
+     *
+     * @return all stick lengths, in file order
+     * @throws IllegalStateException if the file holds int64 lengths or too many sticks for an array
+     */
+    public int[] readInts() {
+        if (elementWidth != Integer.BYTES) {
+            throw new IllegalStateException("File holds int64 lengths; use readLongs()");
+        }
+        int[] sticks = new int[arrayLength()];
+        int pos = 0;
+        for (MappedByteBuffer region : regions) {
+            IntBuffer ints = region.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            int n = ints.remaining();
+            ints.get(sticks, pos, n);
+            pos += n;
+        }
+        return sticks;
+    }
+
+    /**
+     * Copy the file into a long array, widening int32 lengths.
+     *
+     * @return all stick lengths, in file order
+     * @throws IllegalStateException if the file holds too many sticks for an array
+     */
+    public long[] readLongs() {
+        long[] sticks = new long[arrayLength()];
+        if (elementWidth == Long.BYTES) {
+            int pos = 0;
+            for (MappedByteBuffer region : regions) {
+                LongBuffer longs = region.duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+                int n = longs.remaining();
+                longs.get(sticks, pos, n);
+                pos += n;
+            }
+        } else {
+            int[] pos = {0};
+            forEach(stick -> sticks[pos[0]++] = stick);
+        }
+        return sticks;
+    }
+
+    /**
+     * Copy a range of the file into a long array, widening int32 lengths. Safe to call from
+     * several threads at once, each reading its own range.
+     *
+     * @param from index of the first stick to copy
+     * @param dst receives sticks from .. from + dst.length - 1, in file order
+     * @throws IndexOutOfBoundsException if the range runs past the end of the file
+     */
+    void readLongs(long from, long[] dst) {
+        Objects.checkFromIndexSize(from, dst.length, count);
+        long sticksPerRegion = REGION_BYTES / elementWidth;
+        int pos = 0;
+        while (pos < dst.length) {
+            long index = from + pos;
+            MappedByteBuffer region = regions[(int) (index / sticksPerRegion)];
+            int offset = (int) (index % sticksPerRegion);
+            if (elementWidth == Long.BYTES) {
+                LongBuffer longs = region.duplicate().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+                int n = Math.min(dst.length - pos, longs.limit() - offset);
+                longs.get(offset, dst, pos, n);
+                pos += n;
+            } else {
+                IntBuffer ints = region.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                int end = offset + Math.min(dst.length - pos, ints.limit() - offset);
+                for (int i = offset; i < end; i++) {
+                    dst[pos++] = ints.get(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Close the underlying channel.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int arrayLength() {
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException(count + " sticks do not fit in an array; stream them with forEach()");
+        }
+        return (int) count;
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void writeHeader(FileChannel channel, int width, boolean sorted, long count)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC);
+        header.putShort(VERSION);
+        header.put((byte) width);
+        header.put(sorted ? FLAG_SORTED : 0);
+        header.putLong(count);
+        header.flip();
+        drainFully(channel, header);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        drainFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static void drainFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
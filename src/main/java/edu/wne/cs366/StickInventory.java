@@ -0,0 +1,204 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+
+/**
+ * A long-lived, mutable multiset of sticks whose minimum connection cost is kept up to date as
+ * sticks come and go.
+ *
+ * Usage:
+ * <pre>
+ *   StickInventory inventory = new StickInventory(sticks);   // bulk load, one sort
+ *   inventory.add(40);
+ *   inventory.remove(7);
+ *   long cost = inventory.cost();                          // same as connectSticks() on the current sticks
+ * </pre>
+ *
+ * Implementation Approach:
+ * - The sticks are kept as a count structure: the distinct lengths in ascending order in one
+ *   array, their counts in a parallel array. An update binary-searches the length and changes
+ *   its count; only a length that appears or disappears shifts the arrays (System.arraycopy)
+ * - Because the runs are always sorted, cost() never sorts: it runs the run-length two-queue
+ *   merge (RunLengthMerge) straight over the arrays, in O(d log n) for d distinct lengths,
+ *   instead of the O(n log n) heap rebuild of connectSticksHeap()
+ * - The cost is cached, so any number of updates between two cost() calls are paid for with
+ *   one merge, and cost() with no update since the last call is O(1)
+ *
+ * The optimal cost is not a local function of the sticks: one new stick can change which
+ * sticks pair up in every later merge, so cost() still replays the merge after a change. The
+ * saving comes from merging d runs instead of n sticks and from skipping the sort, which is
+ * largest when lengths repeat (see StickInventoryBenchmark).
+ *
+ * Time Complexity:
+ * - add/remove: O(log d) to find the length, plus O(d) array shift when a length appears or
+ *   disappears
+ * - cost(): O(d log n) after an update, O(1) otherwise
+ * Space Complexity: O(d)
+ *
+ * An inventory is not thread-safe.
+ */
+public final class StickInventory {
+
+    private long[] lengths;
+    private long[] counts;
+    private int runs;
+    private long size;
+
+    private long cost;
+    private boolean costValid = true;
+
+    /**
+     * Create an empty inventory.
+     */
+    public StickInventory() {
+        lengths = new long[16];
+        counts = new long[16];
+    }
+
+    /**
+     * Create an inventory holding the given sticks.
+     *
+     * Sorts a copy once and collapses it into runs, O(n log n); adding the sticks one at a time
+     * could shift the arrays for every new length.
+     *
+     * @param sticks initial stick lengths; not modified
+     * @throws IllegalArgumentException if sticks is null or contains a negative length
+     */
+    public StickInventory(int[] sticks) {
+        if (sticks == null) {
+            throw new IllegalArgumentException("Sticks array cannot be null");
+        }
+        int[] sorted = sticks.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && sorted[0] < 0) {
+            throw new IllegalArgumentException("Stick lengths must not be negative, got " + sorted[0]);
+        }
+
+        lengths = new long[Math.max(16, sorted.length)];
+        counts = new long[lengths.length];
+        for (int stick : sorted) {
+            if (runs == 0 || lengths[runs - 1] != stick) {
+                lengths[runs++] = stick;
+            }
+            counts[runs - 1]++;
+        }
+        size = sorted.length;
+        costValid = false;
+    }
+
+    /**
+     * Add one stick.
+     *
+     * @param length stick length
+     * @throws IllegalArgumentException if length is negative
+     */
+    public void add(long length) {
+        add(length, 1);
+    }
+
+    /**
+     * Add count sticks of the same length.
+     *
+     * @param length stick length
+     * @param count number of sticks to add; 0 does nothing
+     * @throws IllegalArgumentException if length or count is negative
+     * @throws ArithmeticException if the number of sticks overflows a long
+     */
+    public void add(long length, long count) {
+        if (length < 0 || count < 0) {
+            throw new IllegalArgumentException(
+                "Lengths and counts must not be negative, got " + count + " x " + length);
+        }
+        if (count == 0) {
+            return;
+        }
+        long newSize = Math.addExact(size, count);
+
+        int i = Arrays.binarySearch(lengths, 0, runs, length);
+        if (i >= 0) {
+            counts[i] += count;
+        } else {
+            insertRun(-i - 1, length, count);
+        }
+        size = newSize;
+        costValid = false;
+    }
+
+    /**
+     * Remove one stick of the given length, if there is one.
+     *
+     * @param length stick length
+     * @return true if a stick was removed, false if the inventory holds no stick of that length
+     */
+    public boolean remove(long length) {
+        int i = Arrays.binarySearch(lengths, 0, runs, length);
+        if (i < 0) {
+            return false;
+        }
+        if (--counts[i] == 0) {
+            System.arraycopy(lengths, i + 1, lengths, i, runs - i - 1);
+            System.arraycopy(counts, i + 1, counts, i, runs - i - 1);
+            runs--;
+        }
+        size--;
+        costValid = false;
+        return true;
+    }
+
+    /**
+     * Minimum total cost to connect all sticks currently in the inventory.
+     *
+     * Equal to connectSticks() on an array of the current sticks; 0 for fewer than two sticks,
+     * since there is nothing to connect.
+     *
+     * @return minimum total cost
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public long cost() {
+        if (!costValid) {
+            cost = size < 2 ? 0 : RunLengthMerge.mergeRuns(lengths, counts, runs);
+            costValid = true;
+        }
+        return cost;
+    }
+
+    /**
+     * @param length stick length
+     * @return number of sticks of that length
+     */
+    public long count(long length) {
+        int i = Arrays.binarySearch(lengths, 0, runs, length);
+        return i >= 0 ? counts[i] : 0;
+    }
+
+    /**
+     * @return number of sticks n
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return number of distinct lengths d
+     */
+    public int distinctLengths() {
+        return runs;
+    }
+
+    @Override
+    public String toString() {
+        return "StickInventory(sticks=" + size + ", distinct=" + runs + ")";
+    }
+
+    private void insertRun(int at, long length, long count) {
+        if (runs == lengths.length) {
+            lengths = Arrays.copyOf(lengths, 2 * runs);
+            counts = Arrays.copyOf(counts, 2 * runs);
+        }
+        System.arraycopy(lengths, at, lengths, at + 1, runs - at);
+        System.arraycopy(counts, at, counts, at + 1, runs - at);
+        lengths[at] = length;
+        counts[at] = count;
+        runs++;
+    }
+}
@@ -0,0 +1,217 @@
+package edu.wne.cs366;
+
+/**
+ * Incremental version of the heap approach that accepts sticks in chunks as they arrive.
+ *
+ * Usage:
+ * <pre>
+ *   StickMerger merger = StickMerger.forSortedFeed();
+ *   while (feed.hasNext()) {
+ *       merger.addAll(feed.nextChunk());
+ *   }
+ *   long totalCost = merger.finish();
+ * </pre>
+ *
+ * Greedy Strategy: the same as connectSticksHeap() - always combine the two smallest sticks.
+ *
+ * When is it safe to merge before the input is complete? Merging the two smallest sticks of
+ * the WHOLE input is always an optimal first step, so two live sticks a &lt;= b may be merged
+ * as soon as every stick still to come is known to be at least b. The merger tracks such a
+ * lower bound (the "watermark") and merges eagerly up to it:
+ * - forSortedFeed(): sticks arrive in non-decreasing order, so the watermark is simply the last
+ *   stick added. Everything below it is merged on arrival, and only the sticks above it stay live.
+ * - promiseAtLeast(bound): any feed that knows a lower bound for its remaining sticks
+ *   (e.g. it is partitioned by length) can raise the watermark explicitly.
+ *
+ * Memory: one long per live stick, and the backing array shrinks again as sticks are merged,
+ * so memory tracks the live stick count, not the total number of sticks ever added. Without
+ * a watermark nothing can be merged early, so every stick stays live until finish().
+ *
+ * The result is always identical to running connectSticksHeapLong() on all sticks at once.
+ */
+public final class StickMerger {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final LongMinHeap heap = new LongMinHeap(INITIAL_CAPACITY);
+    private final boolean sortedFeed;
+    private long watermark = Long.MIN_VALUE;
+    private long cost;
+    private long sticksAdded;
+    private boolean finished;
+
+    private StickMerger(boolean sortedFeed) {
+        this.sortedFeed = sortedFeed;
+    }
+
+    /**
+     * Create a merger for sticks arriving in arbitrary order.
+     *
+     * Sticks are only merged early up to bounds supplied through promiseAtLeast().
+     */
+    public StickMerger() {
+        this(false);
+    }
+
+    /**
+     * Create a merger for a feed whose sticks arrive in non-decreasing order.
+     *
+     * Every add() raises the watermark to the stick just added, so the merger only keeps the
+     * sticks (original or merged) that are longer than the latest input.
+     *
+     * @return a new merger that rejects sticks shorter than the previous one
+     */
+    public static StickMerger forSortedFeed() {
+        return new StickMerger(true);
+    }
+
+    /**
+     * Add one stick.
+     *
+     * @param length stick length
+     * @throws IllegalArgumentException if length is negative, below a promised bound,
+     *                                  or (for a sorted feed) shorter than the previous stick
+     * @throws IllegalStateException if finish() has already been called
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    public void add(int length) {
+        accept(length);
+        if (sortedFeed) {
+            watermark = length;
+        }
+        mergeBelowWatermark();
+    }
+
+    /**
+     * Add a chunk of sticks. The array is not retained and may be reused by the caller.
+     *
+     * @param lengths stick lengths
+     * @throws IllegalArgumentException if lengths is null or any length is rejected by add()
+     * @throws IllegalStateException if finish() has already been called
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    public void addAll(int[] lengths) {
+        if (lengths == null) {
+            throw new IllegalArgumentException("Sticks array must not be null");
+        }
+        addAll(lengths, 0, lengths.length);
+    }
+
+    /**
+     * Add count sticks starting at lengths[offset].
+     *
+     * @param lengths stick lengths
+     * @param offset index of the first stick to add
+     * @param count number of sticks to add
+     * @throws IllegalArgumentException if any length is rejected by add()
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     * @throws IllegalStateException if finish() has already been called
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    public void addAll(int[] lengths, int offset, int count) {
+        if (offset < 0 || count < 0 || offset > lengths.length - count) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + offset + ", " + offset + "+" + count + ") is outside array of length " + lengths.length);
+        }
+        for (int i = offset; i < offset + count; i++) {
+            add(lengths[i]);
+        }
+    }
+
+    /**
+     * Promise that every stick added from now on is at least minFutureLength long.
+     *
+     * Live sticks up to that bound are merged immediately. Later add() calls that break the
+     * promise are rejected.
+     *
+     * @param minFutureLength lower bound on all sticks still to come
+     * @throws IllegalStateException if finish() has already been called
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    public void promiseAtLeast(long minFutureLength) {
+        ensureOpen();
+        if (minFutureLength > watermark) {
+            watermark = minFutureLength;
+            mergeBelowWatermark();
+        }
+    }
+
+    /**
+     * @return cost of the merges performed so far; finish() returns the complete total
+     */
+    public long currentCost() {
+        return cost;
+    }
+
+    /**
+     * @return number of sticks (original or merged) currently held in memory
+     */
+    public int liveSticks() {
+        return heap.size();
+    }
+
+    /**
+     * @return number of sticks added since this merger was created
+     */
+    public long sticksAdded() {
+        return sticksAdded;
+    }
+
+    /**
+     * Merge all remaining sticks and return the minimum total cost.
+     *
+     * Once finished, the merger accepts no more sticks; calling finish() again returns the
+     * same total.
+     *
+     * @return minimum total cost to connect every stick that was added
+     * @throws IllegalStateException if fewer than two sticks were added
+     * @throws ArithmeticException if the cost overflows a long
+     */
+    public long finish() {
+        if (!finished) {
+            if (sticksAdded < 2) {
+                throw new IllegalStateException("At least two sticks are required, got " + sticksAdded);
+            }
+            while (heap.size() > 1) {
+                cost = Math.addExact(cost, heap.pollTwoAndOfferSumExact());
+            }
+            finished = true;
+        }
+        return cost;
+    }
+
+    private void accept(int length) {
+        ensureOpen();
+        if (length < 0) {
+            throw new IllegalArgumentException("Stick " + sticksAdded + " has negative length " + length);
+        }
+        if (length < watermark) {
+            throw new IllegalArgumentException(sortedFeed
+                ? "Sorted feed received " + length + " after " + watermark
+                : "Stick " + length + " is below the promised minimum " + watermark);
+        }
+        heap.offer(length);
+        sticksAdded++;
+    }
+
+    /**
+     * Merge the two smallest live sticks while the second of them is no longer than the
+     * watermark, i.e. while they are guaranteed to be the two smallest of the whole input.
+     */
+    private void mergeBelowWatermark() {
+        boolean merged = false;
+        while (heap.size() > 1 && heap.peekSecond() <= watermark) {
+            cost = Math.addExact(cost, heap.pollTwoAndOfferSumExact());
+            merged = true;
+        }
+        if (merged) {
+            heap.shrinkToFit();
+        }
+    }
+
+    private void ensureOpen() {
+        if (finished) {
+            throw new IllegalStateException("finish() has already been called");
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package edu.wne.cs366;
+
+import java.util.Arrays;
+
+/**
+ * Two-queue Huffman merge used by {@link GreedyAlgorithms#connectSticksTwoQueue(int[])}.
+ *
+ * Key observation: when sticks are combined smallest-first, the merged sums are produced in
+ * non-decreasing order. So no heap is needed once the input is sorted:
+ * - Queue 1 holds the original sticks in sorted order
+ * - Queue 2 is a plain FIFO of merged sums, which stays sorted automatically
+ * - The two smallest sticks are always at the heads of the two queues
+ *
+ * The merge phase is therefore O(n). The whole pipeline is O(n) when the input can be sorted
+ * with a counting sort (bounded value range), and O(n log n) otherwise.
+ */
+final class TwoQueueMerge {
+
+    private TwoQueueMerge() {
+    }
+
+    /**
+     * Return a sorted copy of the sticks, leaving the input untouched.
+     *
+     * Uses a counting sort when the value range is no larger than the number of sticks
+     * (e.g. generateRandomSticks(n, 1, 100) with n >= 100), so the count array never outgrows
+     * the input and sorting is O(n). Otherwise falls back to Arrays.sort, O(n log n).
+     *
+     * @param sticks array of stick lengths
+     * @return a new array holding the same sticks in ascending order
+     */
+    static int[] sortedCopy(int[] sticks) {
+        long minMax = StickKernels.minMax(sticks);
+        int min = StickKernels.packedMin(minMax);
+        int max = StickKernels.packedMax(minMax);
+
+        long range = (long) max - min + 1;
+        if (range <= sticks.length) {
+            return countingSort(sticks, min, (int) range);
+        }
+        int[] sorted = sticks.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Return a sorted copy of non-negative 64-bit sticks, leaving the input untouched.
+     *
+     * Same strategy as {@link #sortedCopy(int[])}: counting sort when the value range is no
+     * larger than the number of sticks, Arrays.sort otherwise.
+     *
+     * @param sticks array of non-negative stick lengths
+     * @return a new array holding the same sticks in ascending order
+     */
+    static long[] sortedCopy(long[] sticks) {
+        long min = sticks[0];
+        long max = sticks[0];
+        for (long stick : sticks) {
+            if (stick < min) {
+                min = stick;
+            } else if (stick > max) {
+                max = stick;
+            }
+        }
+
+        long range = max - min + 1;
+        if (range > 0 && range <= sticks.length) {
+            int[] counts = new int[(int) range];
+            for (long stick : sticks) {
+                counts[(int) (stick - min)]++;
+            }
+            long[] sorted = new long[sticks.length];
+            int pos = 0;
+            for (int v = 0; v < counts.length; v++) {
+                long value = v + min;
+                for (int c = counts[v]; c > 0; c--) {
+                    sorted[pos++] = value;
+                }
+            }
+            return sorted;
+        }
+        long[] sorted = sticks.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Counting sort for values in [min, min + range).
+     */
+    static int[] countingSort(int[] sticks, int min, int range) {
+        int[] counts = new int[range];
+        for (int stick : sticks) {
+            counts[stick - min]++;
+        }
+        int[] sorted = new int[sticks.length];
+        int pos = 0;
+        for (int v = 0; v < range; v++) {
+            int value = v + min;
+            for (int c = counts[v]; c > 0; c--) {
+                sorted[pos++] = value;
+            }
+        }
+        return sorted;
+    }
+
+    /**
+     * Connect already-sorted sticks using the two-queue technique, failing on overflow.
+     *
+     * Sums are kept as longs, so overflow is only possible for totals beyond 2^63; the check
+     * costs one overflow-flag branch per step.
+     *
+     * @param sorted non-negative stick lengths in ascending order, at least two of them
+     * @return minimum total cost to connect all sticks
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long mergeSortedExact(int[] sorted) {
+        int n = sorted.length;
+        long[] merged = new long[n - 1];
+        int next = 0;
+        int head = 0;
+        int tail = 0;
+        long totalCost = 0;
+
+        for (int step = 0; step < n - 1; step++) {
+            long first;
+            if (next < n && (head == tail || sorted[next] <= merged[head])) {
+                first = sorted[next++];
+            } else {
+                first = merged[head++];
+            }
+            long second;
+            if (next < n && (head == tail || sorted[next] <= merged[head])) {
+                second = sorted[next++];
+            } else {
+                second = merged[head++];
+            }
+
+            long cost = first + second;
+            merged[tail++] = cost;
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * Connect already-sorted sticks k at a time using the two-queue technique (k-ary Huffman).
+     *
+     * Optimal k-ary Huffman pads the input with zero-length dummies until (n - 1) is a multiple
+     * of (k - 1), so that every step joins exactly k sticks. The dummies would all be taken by
+     * the first step, so instead of storing them the first step joins only the
+     * (n - 2) % (k - 1) + 2 smallest real sticks. Every later step joins k sticks. The sums still
+     * come out in non-decreasing order, so the FIFO of merged sums stays sorted and each step
+     * is k head comparisons, O(k).
+     *
+     * A merged stick is a sum of at most n &lt; 2^31 int lengths, so it always fits in a long;
+     * only the running total is checked for overflow. k = 2 takes the pairwise loop of
+     * mergeSortedExact(int[]).
+     *
+     * @param sorted non-negative stick lengths in ascending order, at least two of them
+     * @param k maximum sticks joined per step, at least 2
+     * @return minimum total cost to connect all sticks
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static long mergeSortedKaryExact(int[] sorted, int k) {
+        if (k == 2) {
+            return mergeSortedExact(sorted);
+        }
+        int n = sorted.length;
+        long[] merged = new long[(n - 2) / (k - 1) + 1];
+        int next = 0;
+        int head = 0;
+        int tail = 0;
+        long totalCost = 0;
+
+        int take = (n - 2) % (k - 1) + 2;
+        for (int live = n; live > 1; live -= take - 1, take = k) {
+            long cost = 0;
+            for (int j = 0; j < take; j++) {
+                if (next < n && (head == tail || sorted[next] <= merged[head])) {
+                    cost += sorted[next++];
+                } else {
+                    cost += merged[head++];
+                }
+            }
+            merged[tail++] = cost;
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * Connect already-sorted 64-bit sticks using the two-queue technique, failing on overflow.
+     *
+     * @param sorted non-negative stick lengths in ascending order, at least two of them
+     * @return minimum total cost to connect all sticks
+     * @throws ArithmeticException if a merged stick or the total cost overflows a long
+     */
+    static long mergeSortedExact(long[] sorted) {
+        int n = sorted.length;
+        long[] merged = new long[n - 1];
+        int next = 0;
+        int head = 0;
+        int tail = 0;
+        long totalCost = 0;
+
+        for (int step = 0; step < n - 1; step++) {
+            long first;
+            if (next < n && (head == tail || sorted[next] <= merged[head])) {
+                first = sorted[next++];
+            } else {
+                first = merged[head++];
+            }
+            long second;
+            if (next < n && (head == tail || sorted[next] <= merged[head])) {
+                second = sorted[next++];
+            } else {
+                second = merged[head++];
+            }
+
+            long cost = Math.addExact(first, second);
+            merged[tail++] = cost;
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+
+    /**
+     * Sort the sticks while remembering where each came from.
+     *
+     * Each entry packs a stick as (length &lt;&lt; 32) | index, so sorting the packed longs orders
+     * sticks by length and the low 32 bits still name the original stick. Small value ranges are
+     * sorted with a counting sort, as in {@link #sortedCopy(int[])}.
+     *
+     * @param sticks array of stick lengths
+     * @return packed (length, index) pairs in ascending order of length
+     */
+    static long[] sortedWithIds(int[] sticks) {
+        int n = sticks.length;
+        long minMax = StickKernels.minMax(sticks);
+        int min = StickKernels.packedMin(minMax);
+        int max = StickKernels.packedMax(minMax);
+
+        long[] packed = new long[n];
+        long range = (long) max - min + 1;
+        if (range <= n) {
+            int[] starts = new int[(int) range + 1];
+            for (int stick : sticks) {
+                starts[stick - min + 1]++;
+            }
+            for (int v = 0; v < range; v++) {
+                starts[v + 1] += starts[v];
+            }
+            for (int i = 0; i < n; i++) {
+                packed[starts[sticks[i] - min]++] = pack(sticks[i], i);
+            }
+            return packed;
+        }
+        for (int i = 0; i < n; i++) {
+            packed[i] = pack(sticks[i], i);
+        }
+        Arrays.sort(packed);
+        return packed;
+    }
+
+    /**
+     * Two-queue merge over packed sorted sticks that records every step.
+     *
+     * The FIFO of merged sums is the plan's own sum array: the stick produced at step k has id
+     * n + k and length sum[k], so the queue needs no storage of its own.
+     *
+     * @param packed output of sortedWithIds(), at least two entries
+     * @return the complete merge plan
+     * @throws ArithmeticException if the total cost overflows a long
+     */
+    static MergePlan planSorted(long[] packed) {
+        int n = packed.length;
+        int[] left = new int[n - 1];
+        int[] right = new int[n - 1];
+        long[] sum = new long[n - 1];
+        int next = 0;
+        int head = 0;
+        long totalCost = 0;
+
+        for (int step = 0; step < n - 1; step++) {
+            long first;
+            if (next < n && (head == step || (packed[next] >> 32) <= sum[head])) {
+                first = packed[next] >> 32;
+                left[step] = (int) packed[next++];
+            } else {
+                first = sum[head];
+                left[step] = n + head++;
+            }
+            long second;
+            if (next < n && (head == step || (packed[next] >> 32) <= sum[head])) {
+                second = packed[next] >> 32;
+                right[step] = (int) packed[next++];
+            } else {
+                second = sum[head];
+                right[step] = n + head++;
+            }
+
+            long cost = first + second;
+            sum[step] = cost;
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return new MergePlan(n, left, right, sum, totalCost);
+    }
+
+    private static long pack(int length, int index) {
+        return ((long) length << 32) | index;
+    }
+}
@@ -0,0 +1,100 @@
+package edu.wne.cs366;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+
+/**
+ * Entry points of the off-heap engine, kept apart from GreedyAlgorithms.
+ *
+ * java.lang.foreign is a preview API in Java 21, and any JVM that loads a class using it needs
+ * --enable-preview. This class, OffHeapSticks and OffHeapMerge therefore live in their own
+ * source set (src/offheap/java), which build.gradle alone compiles, tests and runs with that
+ * flag; the rest of the project builds and runs without it.
+ *
+ * Usage:
+ * <pre>
+ *   ./gradlew offheapTest                              # its tests
+ *   ./gradlew runOffHeap --args="&lt;stick-file&gt;"     # solve a stick file in native memory
+ * </pre>
+ */
+public final class OffHeapAlgorithms {
+
+    private OffHeapAlgorithms() {
+    }
+
+    /**
+     * Calculate minimum cost for sticks held in native memory, which may number more than
+     * 2^31 - 1.
+     *
+     * Greedy Strategy: Always combine the two smallest sticks first (SAME as the other versions).
+     *
+     * Implementation Approach (see OffHeapMerge):
+     * - Copy the sticks into a MemorySegment and radix sort them, 16 bits per pass
+     * - Two-queue merge in place, storing each step's sum in an already consumed slot of the
+     *   sorted segment
+     * - Every buffer is native memory from a confined Arena, freed as soon as its phase ends,
+     *   so nothing proportional to n is ever on the Java heap or seen by the garbage collector
+     *
+     * Time Complexity: O(n) - at most four radix passes of n, then n-1 steps of O(1)
+     * Space Complexity: O(n) native memory - 16 bytes per stick while sorting, 8 while merging
+     *
+     * @param sticks off-heap sticks; not modified
+     * @return minimum total cost
+     * @throws IllegalArgumentException if sticks is null, holds fewer than 2 sticks,
+     *                                  or contains a negative length
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    public static long connectSticksOffHeap(OffHeapSticks sticks) {
+        if (sticks == null) {
+            throw new IllegalArgumentException("Sticks must not be null");
+        }
+        if (sticks.count() < 2) {
+            throw new IllegalArgumentException("At least two sticks are required, got " + sticks.count());
+        }
+        return OffHeapMerge.cost(sticks);
+    }
+
+    /**
+     * Copy a stick file into native memory and print its cost; the off-heap counterpart of
+     * the stick-file engines of GreedyAlgorithms.main(). Needs neither heap space nor an array,
+     * so it also handles files of more than 2^31 - 1 sticks.
+     *
+     * @param args the stick file
+     */
+    public static void main(String[] args) {
+        int status = run(args, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * @return process exit status: 0 on success, 1 if the file cannot be read or solved,
+     *         2 on a usage error
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (args.length != 1 || args[0].startsWith("--")) {
+            err.println("Usage: <stick-file>");
+            return 2;
+        }
+        try (StickFile file = StickFile.open(Path.of(args[0]))) {
+            long start = System.nanoTime();
+            long cost;
+            try (OffHeapSticks sticks = OffHeapSticks.copyOf(file)) {
+                cost = connectSticksOffHeap(sticks);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            out.printf("File:    %s (%d sticks, int%d%s)%n", args[0], file.count(),
+                file.elementWidth() * 8, file.isSorted() ? ", sorted" : "");
+            out.printf("Engine:  offheap%n");
+            out.printf("Cost:    %d%n", cost);
+            out.printf("Time:    %.3f ms%n", elapsed / 1_000_000.0);
+            return 0;
+        } catch (IOException | IllegalArgumentException | IllegalStateException | ArithmeticException e) {
+            err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+}
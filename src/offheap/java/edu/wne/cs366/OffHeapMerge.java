@@ -0,0 +1,129 @@
+package edu.wne.cs366;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+/**
+ * Off-heap two-queue engine behind {@link OffHeapAlgorithms#connectSticksOffHeap(OffHeapSticks)}.
+ *
+ * Every buffer is a MemorySegment indexed by long and owned by a confined Arena that is closed
+ * as soon as its phase ends:
+ * 1. Copy the input into a work segment (n longs), validating and finding the maximum.
+ * 2. LSD radix sort, 16 bits per pass, through a scratch segment (n longs) that is freed right
+ *    after the sort. Only the passes the maximum needs are run (two for int-sized lengths), a
+ *    pass whose digit is the same for every stick is skipped, and the scratch segment is not
+ *    allocated at all if every pass is skipped.
+ * 3. Two-queue merge in place: the sum produced by step s is stored in slot s of the sorted work
+ *    segment, which is always already consumed (see EngineSelector.tiny()), so the FIFO of
+ *    merged sums needs no memory of its own.
+ *
+ * Peak native memory is 16 bytes per stick during the sort and 8 during the merge. The only
+ * heap allocation is one long[65536] of digit counts.
+ */
+final class OffHeapMerge {
+
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG;
+
+    private static final int DIGIT_BITS = 16;
+    private static final int DIGITS = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = DIGITS - 1;
+
+    private OffHeapMerge() {
+    }
+
+    /**
+     * @param sticks at least two non-negative lengths; not modified
+     * @return minimum total cost
+     * @throws IllegalArgumentException if a length is negative
+     * @throws ArithmeticException if the total cost does not fit in a long
+     */
+    static long cost(OffHeapSticks sticks) {
+        long n = sticks.count();
+        MemorySegment input = sticks.segment();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment work = arena.allocate(n * Long.BYTES, Long.BYTES);
+            long max = 0;
+            for (long i = 0; i < n; i++) {
+                long stick = input.getAtIndex(LONG, i);
+                if (stick < 0) {
+                    throw new IllegalArgumentException("Stick lengths must be non-negative, got " + stick + " at index " + i);
+                }
+                max = Math.max(max, stick);
+                work.setAtIndex(LONG, i, stick);
+            }
+            radixSort(work, n, max);
+            return mergeSortedInPlace(work, n);
+        }
+    }
+
+    /**
+     * Sort the first n longs of data, all in [0, max], ascending.
+     */
+    static void radixSort(MemorySegment data, long n, long max) {
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(max);
+        long[] counts = new long[DIGITS];
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment from = data;
+            MemorySegment to = null;
+            for (int shift = 0; shift < bits; shift += DIGIT_BITS) {
+                Arrays.fill(counts, 0);
+                for (long i = 0; i < n; i++) {
+                    counts[(int) (from.getAtIndex(LONG, i) >>> shift) & DIGIT_MASK]++;
+                }
+                if (counts[(int) (from.getAtIndex(LONG, 0) >>> shift) & DIGIT_MASK] == n) {
+                    continue;
+                }
+                if (to == null) {
+                    to = arena.allocate(n * Long.BYTES, Long.BYTES);
+                }
+                long offset = 0;
+                for (int d = 0; d < DIGITS; d++) {
+                    long count = counts[d];
+                    counts[d] = offset;
+                    offset += count;
+                }
+                for (long i = 0; i < n; i++) {
+                    long value = from.getAtIndex(LONG, i);
+                    to.setAtIndex(LONG, counts[(int) (value >>> shift) & DIGIT_MASK]++, value);
+                }
+                MemorySegment swap = from;
+                from = to;
+                to = swap;
+            }
+            if (from != data) {
+                MemorySegment.copy(from, 0, data, 0, n * Long.BYTES);
+            }
+        }
+    }
+
+    /**
+     * Two-queue merge of n >= 2 sorted, non-negative lengths. Originals are read from
+     * [next, n), merged sums from [head, step), and step s writes its sum to slot s.
+     */
+    static long mergeSortedInPlace(MemorySegment a, long n) {
+        long next = 0;
+        long head = 0;
+        long totalCost = 0;
+        for (long step = 0; step < n - 1; step++) {
+            long first;
+            if (next < n && (head == step || a.getAtIndex(LONG, next) <= a.getAtIndex(LONG, head))) {
+                first = a.getAtIndex(LONG, next++);
+            } else {
+                first = a.getAtIndex(LONG, head++);
+            }
+            long second;
+            if (next < n && (head == step || a.getAtIndex(LONG, next) <= a.getAtIndex(LONG, head))) {
+                second = a.getAtIndex(LONG, next++);
+            } else {
+                second = a.getAtIndex(LONG, head++);
+            }
+
+            long cost = Math.addExact(first, second);
+            a.setAtIndex(LONG, step, cost);
+            totalCost = Math.addExact(totalCost, cost);
+        }
+        return totalCost;
+    }
+}
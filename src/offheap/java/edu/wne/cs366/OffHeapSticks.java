@@ -0,0 +1,132 @@
+package edu.wne.cs366;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * A long-indexed array of stick lengths stored outside the Java heap, the input of
+ * {@link OffHeapAlgorithms#connectSticksOffHeap(OffHeapSticks)}.
+ *
+ * Usage:
+ * <pre>
+ *   try (OffHeapSticks sticks = OffHeapSticks.allocate(3_000_000_000L)) {
+ *       for (long i = 0; i &lt; sticks.count(); i++) {
+ *           sticks.set(i, lengthOf(i));
+ *       }
+ *       long cost = OffHeapAlgorithms.connectSticksOffHeap(sticks);
+ *   }
+ * </pre>
+ *
+ * Unlike int[] or long[], the count is a long, so inputs may hold more than 2^31 - 1 sticks.
+ * The lengths live in a single MemorySegment allocated from a shared Arena: the garbage
+ * collector never scans or copies them, so GC pauses do not grow with the input. The memory
+ * is freed when close() is called, not when the object is collected.
+ *
+ * Index and closed-state checks are done by the segment: get() and set() throw
+ * IndexOutOfBoundsException outside [0, count()) and IllegalStateException after close().
+ *
+ * java.lang.foreign is a preview API in Java 21, so code using this class must run with
+ * --enable-preview; see OffHeapAlgorithms for the source set that keeps it to this engine.
+ */
+public final class OffHeapSticks implements AutoCloseable {
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final long count;
+
+    private OffHeapSticks(long count) {
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(count * Long.BYTES, Long.BYTES);
+        this.count = count;
+    }
+
+    /**
+     * Allocate room for count sticks, all of length 0.
+     *
+     * @param count number of sticks
+     * @return the new, zero-filled sticks
+     * @throws IllegalArgumentException if count is negative or count * 8 bytes overflows a long
+     * @throws OutOfMemoryError if the native memory cannot be allocated
+     */
+    public static OffHeapSticks allocate(long count) {
+        if (count < 0 || count > Long.MAX_VALUE / Long.BYTES) {
+            throw new IllegalArgumentException("Stick count out of range: " + count);
+        }
+        return new OffHeapSticks(count);
+    }
+
+    /**
+     * Copy an on-heap array into native memory.
+     *
+     * @param sticks stick lengths
+     * @return an off-heap copy of sticks
+     * @throws IllegalArgumentException if sticks is null
+     */
+    public static OffHeapSticks copyOf(long[] sticks) {
+        if (sticks == null) {
+            throw new IllegalArgumentException("Sticks array must not be null");
+        }
+        OffHeapSticks copy = allocate(sticks.length);
+        MemorySegment.copy(sticks, 0, copy.segment, ValueLayout.JAVA_LONG, 0, sticks.length);
+        return copy;
+    }
+
+    /**
+     * Copy every stick of a stick file into native memory, e.g. to solve a file with more than
+     * 2^31 - 1 sticks in memory.
+     *
+     * @param file an open stick file
+     * @return an off-heap copy of the file's sticks, in file order
+     */
+    public static OffHeapSticks copyOf(StickFile file) {
+        OffHeapSticks copy = allocate(file.count());
+        long[] index = {0};
+        try {
+            file.forEach(stick -> copy.segment.setAtIndex(ValueLayout.JAVA_LONG, index[0]++, stick));
+        } catch (RuntimeException | Error e) {
+            // Nothing else holds the copy, so free it here rather than leak it until exit
+            copy.close();
+            throw e;
+        }
+        return copy;
+    }
+
+    /**
+     * @return number of sticks
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @param index stick index in [0, count())
+     * @return length of that stick
+     */
+    public long get(long index) {
+        return segment.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    /**
+     * @param index stick index in [0, count())
+     * @param length new length of that stick
+     */
+    public void set(long index, long length) {
+        segment.setAtIndex(ValueLayout.JAVA_LONG, index, length);
+    }
+
+    /**
+     * @return the segment holding the lengths, one JAVA_LONG per stick
+     */
+    MemorySegment segment() {
+        return segment;
+    }
+
+    /**
+     * Free the native memory. Any later access throws IllegalStateException.
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
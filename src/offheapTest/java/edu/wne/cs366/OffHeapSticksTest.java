@@ -0,0 +1,116 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for OffHeapSticks and the off-heap engine. Inputs beyond 2^31 sticks need at least
+ * 32 GB of native memory, so the long indexing is exercised here only through the API.
+ */
+public class OffHeapSticksTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Examples should give the usual costs")
+    void testExamples() {
+        try (OffHeapSticks sticks = OffHeapSticks.copyOf(new long[]{2, 4, 3})) {
+            assertEquals(14L, OffHeapAlgorithms.connectSticksOffHeap(sticks));
+        }
+        try (OffHeapSticks sticks = OffHeapSticks.copyOf(new long[]{4, 3, 2, 6, 1})) {
+            assertEquals(35L, OffHeapAlgorithms.connectSticksOffHeap(sticks));
+            assertEquals(35L, OffHeapAlgorithms.connectSticksOffHeap(sticks));
+        }
+        try (OffHeapSticks sticks = OffHeapSticks.copyOf(new long[]{0, 0, 0})) {
+            assertEquals(0L, OffHeapAlgorithms.connectSticksOffHeap(sticks));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the two-queue engine across radix digit widths")
+    void testMatchesTwoQueue() {
+        Random random = new Random(15);
+        long[] maxLengths = {1, 100, 65_535, 65_536, 1L << 31, 1L << 40, Long.MAX_VALUE / (1 << 20)};
+        for (int trial = 0; trial < 140; trial++) {
+            long[] lengths = new long[2 + random.nextInt(3_000)];
+            long maxLength = maxLengths[trial % maxLengths.length];
+            for (int i = 0; i < lengths.length; i++) {
+                lengths[i] = (long) (random.nextDouble() * maxLength);
+            }
+            try (OffHeapSticks sticks = OffHeapSticks.allocate(lengths.length)) {
+                for (int i = 0; i < lengths.length; i++) {
+                    sticks.set(i, lengths[i]);
+                }
+                assertEquals(GreedyAlgorithms.connectSticksTwoQueueLong(lengths),
+                    OffHeapAlgorithms.connectSticksOffHeap(sticks), "trial " + trial);
+                assertEquals(lengths[lengths.length - 1], sticks.get(lengths.length - 1), "input must not change");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should solve a stick file copied into native memory")
+    void testStickFile() throws Exception {
+        int[] lengths = new int[10_000];
+        Random random = new Random(16);
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = 1 + random.nextInt(1_000_000);
+        }
+        Path path = dir.resolve("sticks.bin");
+        StickFile.writeInt32(path, lengths);
+        try (StickFile file = StickFile.open(path); OffHeapSticks sticks = OffHeapSticks.copyOf(file)) {
+            assertEquals(lengths.length, sticks.count());
+            assertEquals(GreedyAlgorithms.connectSticks(lengths), OffHeapAlgorithms.connectSticksOffHeap(sticks));
+        }
+    }
+
+    @Test
+    @DisplayName("Command line should solve a stick file and report errors")
+    void testCommandLine() throws Exception {
+        Path path = dir.resolve("example.bin");
+        StickFile.writeInt32(path, new int[]{4, 3, 2, 6, 1});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream());
+        assertEquals(0, OffHeapAlgorithms.run(new String[]{path.toString()}, new PrintStream(out), quiet));
+        assertTrue(out.toString().contains("Cost:    35"), out.toString());
+
+        assertEquals(2, OffHeapAlgorithms.run(new String[0], quiet, quiet));
+        assertEquals(1, OffHeapAlgorithms.run(new String[]{dir.resolve("missing.bin").toString()}, quiet, quiet));
+    }
+
+    @Test
+    @DisplayName("Overflow, negative lengths and bad arguments should be rejected")
+    void testErrors() {
+        try (OffHeapSticks sticks = OffHeapSticks.copyOf(new long[]{Long.MAX_VALUE / 2, Long.MAX_VALUE / 2, 2})) {
+            assertThrows(ArithmeticException.class, () -> OffHeapAlgorithms.connectSticksOffHeap(sticks));
+        }
+        try (OffHeapSticks sticks = OffHeapSticks.copyOf(new long[]{3, -1, 2})) {
+            assertThrows(IllegalArgumentException.class, () -> OffHeapAlgorithms.connectSticksOffHeap(sticks));
+        }
+        try (OffHeapSticks sticks = OffHeapSticks.allocate(1)) {
+            assertThrows(IllegalArgumentException.class, () -> OffHeapAlgorithms.connectSticksOffHeap(sticks));
+            assertThrows(IndexOutOfBoundsException.class, () -> sticks.get(1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> OffHeapAlgorithms.connectSticksOffHeap(null));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapSticks.allocate(-1));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapSticks.allocate(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Closing should release the memory and fail later accesses")
+    void testClose() {
+        OffHeapSticks sticks = OffHeapSticks.copyOf(new long[]{1, 2, 3});
+        sticks.close();
+        assertThrows(IllegalStateException.class, () -> sticks.get(0));
+        assertThrows(IllegalStateException.class, () -> OffHeapAlgorithms.connectSticksOffHeap(sticks));
+    }
+}
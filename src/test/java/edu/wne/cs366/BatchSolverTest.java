@@ -0,0 +1,104 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BatchSolver and GreedyAlgorithms.solveBatch().
+ *
+ * Every batch result must equal solving each instance on its own.
+ */
+public class BatchSolverTest {
+
+    /**
+     * Mix of many small instances and a few much larger ones, to exercise largest-first ordering.
+     */
+    private static int[][] randomInstances(int count, long seed) {
+        Random random = new Random(seed);
+        int[][] instances = new int[count][];
+        for (int i = 0; i < count; i++) {
+            int length = 2 + random.nextInt(i % 100 == 0 ? 5_000 : 50);
+            instances[i] = new int[length];
+            for (int j = 0; j < length; j++) {
+                instances[i][j] = random.nextInt(1_000) + 1;
+            }
+        }
+        return instances;
+    }
+
+    private static void assertMatchesSequential(int[][] instances, long[] costs) {
+        assertEquals(instances.length, costs.length);
+        for (int i = 0; i < instances.length; i++) {
+            assertEquals(GreedyAlgorithms.connectSticksHeap(instances[i]), costs[i], "Instance " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("main()'s test cases: [2, 4, 3], [1, 8, 3, 5], [4, 3, 2, 6, 1] -> 14, 30, 35")
+    void testMainExamples() {
+        int[][] instances = {{2, 4, 3}, {1, 8, 3, 5}, {4, 3, 2, 6, 1}};
+        assertArrayEquals(new long[]{14, 30, 35}, GreedyAlgorithms.solveBatch(instances));
+    }
+
+    @Test
+    @DisplayName("Fixed platform pool should match solving each instance on its own")
+    void testFixedPool() {
+        int[][] instances = randomInstances(5_000, 1);
+        try (BatchSolver solver = BatchSolver.fixedPool(4)) {
+            assertMatchesSequential(instances, solver.solve(instances));
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual threads should match solving each instance on its own")
+    void testVirtualThreads() {
+        int[][] instances = randomInstances(5_000, 2);
+        try (BatchSolver solver = BatchSolver.virtualThreads()) {
+            assertMatchesSequential(instances, solver.solve(instances));
+        }
+    }
+
+    @Test
+    @DisplayName("List input should keep results in input order")
+    void testListInput() {
+        List<int[]> instances = Arrays.asList(randomInstances(500, 3));
+        long[] costs = GreedyAlgorithms.solveBatch(instances);
+        assertMatchesSequential(instances.toArray(new int[0][]), costs);
+    }
+
+    @Test
+    @DisplayName("A solver should be reusable across batches")
+    void testReuse() {
+        try (BatchSolver solver = BatchSolver.fixedPool(2)) {
+            int[][] first = randomInstances(1_000, 4);
+            int[][] second = randomInstances(1_000, 5);
+            assertMatchesSequential(first, solver.solve(first));
+            assertMatchesSequential(second, solver.solve(second));
+        }
+    }
+
+    @Test
+    @DisplayName("Empty batch should return no costs")
+    void testEmptyBatch() {
+        assertEquals(0, GreedyAlgorithms.solveBatch(new int[0][]).length);
+    }
+
+    @Test
+    @DisplayName("Should throw exception for an instance with a single stick")
+    void testInvalidInstance() {
+        int[][] instances = {{1, 2}, {3}};
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.solveBatch(instances));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for a pool without threads")
+    void testInvalidPoolSize() {
+        assertThrows(IllegalArgumentException.class, () -> BatchSolver.fixedPool(0));
+    }
+}
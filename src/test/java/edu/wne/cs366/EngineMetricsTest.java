@@ -0,0 +1,146 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the instrumented engine overloads and EngineMetrics.
+ */
+public class EngineMetricsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Instrumented engines should return the same cost as the plain ones")
+    void testSameResults() {
+        EngineMetrics metrics = new EngineMetrics();
+        Random random = new Random(12);
+        for (int trial = 0; trial < 50; trial++) {
+            int[] sticks = new int[2 + random.nextInt(200)];
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = 1 + random.nextInt(1000);
+            }
+            assertEquals(GreedyAlgorithms.connectSticksNaive(sticks),
+                GreedyAlgorithms.connectSticksNaive(sticks, metrics));
+            assertEquals(GreedyAlgorithms.connectSticksHeap(sticks),
+                GreedyAlgorithms.connectSticksHeap(sticks, metrics));
+            assertEquals(GreedyAlgorithms.connectSticksPrimitiveHeap(sticks),
+                GreedyAlgorithms.connectSticksPrimitiveHeap(sticks, metrics));
+        }
+    }
+
+    @Test
+    @DisplayName("Naive counters should match a hand count")
+    void testNaiveCounts() {
+        // [2, 4, 3]: scans compare 2 + 1, then 1 + 0; removing index 2 then 0 shifts one element
+        EngineMetrics metrics = new EngineMetrics();
+        assertEquals(14, GreedyAlgorithms.connectSticksNaive(new int[]{2, 4, 3}, metrics));
+        assertEquals("naive", metrics.engine());
+        assertEquals(3, metrics.sticks());
+        assertEquals(2, metrics.merges());
+        assertEquals(4, metrics.comparisons());
+        assertEquals(1, metrics.swaps());
+        assertEquals(3, metrics.peakLiveSticks());
+    }
+
+    @Test
+    @DisplayName("Heap counters should be positive and bounded by O(n log n)")
+    void testHeapCounts() {
+        int n = 1 << 12;
+        int[] sticks = new int[n];
+        Random random = new Random(13);
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000);
+        }
+        long bound = 4L * n * 12;
+
+        EngineMetrics metrics = new EngineMetrics();
+        GreedyAlgorithms.connectSticksPrimitiveHeap(sticks, metrics);
+        assertEquals("primitive", metrics.engine());
+        assertEquals(n - 1, metrics.merges());
+        assertTrue(metrics.comparisons() > n && metrics.comparisons() < bound, metrics.toString());
+        assertTrue(metrics.swaps() > 0 && metrics.swaps() < metrics.comparisons(), metrics.toString());
+        assertTrue(metrics.buildNanos() >= 0 && metrics.mergeNanos() >= 0);
+
+        GreedyAlgorithms.connectSticksHeap(sticks, metrics);
+        assertEquals("heap", metrics.engine());
+        assertTrue(metrics.comparisons() > n && metrics.comparisons() < bound, metrics.toString());
+        assertEquals(-1, metrics.swaps());
+    }
+
+    @Test
+    @DisplayName("Allocation counting should see the boxed engine allocate more than the primitive one")
+    void testAllocatedBytes() {
+        int n = 1 << 14;
+        int[] sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1000 + i;
+        }
+        EngineMetrics metrics = new EngineMetrics();
+        GreedyAlgorithms.connectSticksPrimitiveHeap(sticks, metrics);
+        long primitive = metrics.allocatedBytes();
+        if (primitive < 0) {
+            return; // per-thread allocation counting not supported by this JVM
+        }
+        GreedyAlgorithms.connectSticksHeap(sticks, metrics);
+        long boxed = metrics.allocatedBytes();
+
+        // The backing long[n] is the primitive engine's only sizeable allocation
+        assertTrue(primitive >= 8L * n, "primitive " + primitive);
+        assertTrue(boxed > primitive, "boxed " + boxed + " primitive " + primitive);
+    }
+
+    @Test
+    @DisplayName("Each instrumented call should be recorded as a JFR event when enabled")
+    void testFlightRecorderEvent() throws Exception {
+        Path file = dir.resolve("sticks.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("edu.wne.cs366.EngineCall");
+            recording.start();
+            GreedyAlgorithms.connectSticksPrimitiveHeap(new int[]{2, 4, 3}, new EngineMetrics());
+            int[] larger = new int[10_000];
+            Arrays.fill(larger, 7);
+            GreedyAlgorithms.connectSticksPrimitiveHeap(larger, new EngineMetrics());
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = new ArrayList<>(RecordingFile.readAllEvents(file));
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        assertEquals(2, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("primitive", event.getString("engine"));
+        assertEquals(3, event.getInt("sticks"));
+        assertEquals(2, event.getLong("merges"));
+
+        // The event spans the call, so its duration covers at least the merge loop
+        RecordedEvent larger = events.get(1);
+        assertEquals(10_000, larger.getInt("sticks"));
+        assertTrue(larger.getDuration().toNanos() >= larger.getLong("mergeNanos"),
+            larger.getDuration() + " vs merge " + larger.getLong("mergeNanos") + " ns");
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class,
+            () -> GreedyAlgorithms.connectSticksHeap(new int[]{1, 2}, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> GreedyAlgorithms.connectSticksNaive(new int[]{1}, new EngineMetrics()));
+    }
+}
@@ -0,0 +1,159 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the adaptive connectSticks() front door and its engine selection.
+ */
+public class EngineSelectionTest {
+
+    @Test
+    @DisplayName("Small examples should be solved on the tiny path")
+    void testExamples() {
+        assertEquals(14L, GreedyAlgorithms.connectSticks(new int[]{2, 4, 3}));
+        assertEquals(30L, GreedyAlgorithms.connectSticks(new int[]{1, 8, 3, 5}));
+        assertEquals(35L, GreedyAlgorithms.connectSticks(new int[]{4, 3, 2, 6, 1}));
+        assertEquals(EngineSelection.Engine.TINY, GreedyAlgorithms.selectEngine(new int[]{2, 4, 3}).engine());
+    }
+
+    @Test
+    @DisplayName("Selection should follow size, sortedness, range and sign")
+    void testDispatch() {
+        int n = 10_000;
+        int[] narrow = new int[n];
+        int[] wide = new int[n];
+        Random random = new Random(10);
+        for (int i = 0; i < n; i++) {
+            narrow[i] = 1 + random.nextInt(5_000);
+            wide[i] = 1 + random.nextInt(1_000_000_000);
+        }
+        int[] repeated = new int[n];
+        for (int i = 0; i < n; i++) {
+            repeated[i] = 1 + random.nextInt(100);
+        }
+        int[] fewRepeats = new int[n];
+        for (int i = 0; i < n; i++) {
+            // Each length repeats 16 times on average, too few for run-length to pay off
+            fewRepeats[i] = 1 + random.nextInt(n / 16);
+        }
+        int[] fewWide = new int[n];
+        for (int i = 0; i < n; i++) {
+            fewWide[i] = 1_000_000 * (1 + random.nextInt(10));
+        }
+        int[] ascending = wide.clone();
+        Arrays.sort(ascending);
+        int[] descending = new int[n];
+        for (int i = 0; i < n; i++) {
+            descending[i] = ascending[n - 1 - i];
+        }
+        int[] negative = narrow.clone();
+        negative[n / 2] = -5;
+
+        assertEquals(EngineSelection.Engine.COUNTING, GreedyAlgorithms.selectEngine(narrow).engine());
+        assertEquals(EngineSelection.Engine.TWO_QUEUE, GreedyAlgorithms.selectEngine(wide).engine());
+        assertEquals(EngineSelection.Engine.RUN_LENGTH, GreedyAlgorithms.selectEngine(repeated).engine());
+        assertEquals(EngineSelection.Engine.COUNTING, GreedyAlgorithms.selectEngine(fewRepeats).engine());
+        assertEquals(EngineSelection.Engine.RUN_LENGTH, GreedyAlgorithms.selectEngine(fewWide).engine());
+        assertEquals(EngineSelection.Engine.SORTED, GreedyAlgorithms.selectEngine(ascending).engine());
+        assertEquals(EngineSelection.Engine.SORTED, GreedyAlgorithms.selectEngine(descending).engine());
+        assertEquals(EngineSelection.Engine.HEAP, GreedyAlgorithms.selectEngine(negative).engine());
+        assertEquals(EngineSelection.Engine.HEAP, GreedyAlgorithms.selectEngine(new int[]{-1, 2}).engine());
+    }
+
+    @Test
+    @DisplayName("Selection should report the input statistics")
+    void testStatistics() {
+        int[] sticks = new int[1000];
+        for (int i = 0; i < sticks.length; i++) {
+            sticks[i] = 5 + i % 4;
+        }
+        EngineSelection selection = GreedyAlgorithms.selectEngine(sticks);
+
+        assertEquals(1000, selection.stickCount());
+        assertEquals(5, selection.min());
+        assertEquals(8, selection.max());
+        assertEquals(4, selection.valueRange());
+        assertFalse(selection.ascending());
+        assertFalse(selection.descending());
+        assertTrue(selection.sampledDistinctRatio() < 0.05, "4 distinct values in a sample of 256");
+        assertTrue(selection.toString().startsWith("RUN_LENGTH"));
+    }
+
+    @Test
+    @DisplayName("Listener should see the selection before the engine runs")
+    void testListener() {
+        List<EngineSelection> seen = new ArrayList<>();
+        long cost = GreedyAlgorithms.connectSticks(new int[]{1, 8, 3, 5}, seen::add);
+
+        assertEquals(30L, cost);
+        assertEquals(1, seen.size());
+        assertEquals(EngineSelection.Engine.TINY, seen.get(0).engine());
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticks(new int[]{1, 2}, null));
+    }
+
+    @Test
+    @DisplayName("Every engine choice should match the heap approach")
+    void testAgainstHeap() {
+        Random random = new Random(11);
+        int[] sizes = {2, 3, 31, 32, 33, 64, 1000, 5000};
+        int[] maxLengths = {1, 10, 100, 100_000, 1_000_000};
+        for (int n : sizes) {
+            for (int maxLength : maxLengths) {
+                int[] sticks = new int[n];
+                for (int i = 0; i < n; i++) {
+                    sticks[i] = random.nextInt(maxLength) + 1;
+                }
+                long expected = GreedyAlgorithms.connectSticksHeapLong(Arrays.stream(sticks).asLongStream().toArray());
+                assertEquals(expected, GreedyAlgorithms.connectSticks(sticks), "n=" + n + " max=" + maxLength);
+
+                Arrays.sort(sticks);
+                assertEquals(expected, GreedyAlgorithms.connectSticks(sticks), "sorted n=" + n);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Heap path should handle negative lengths like connectSticksHeap()")
+    void testNegativeLengths() {
+        int[] sticks = {-3, 7, 2, -1, 5};
+        assertEquals(GreedyAlgorithms.connectSticksHeap(sticks), GreedyAlgorithms.connectSticks(sticks));
+    }
+
+    @Test
+    @DisplayName("Tiny path should match two-queue for every size up to the threshold")
+    void testTinyPath() {
+        Random random = new Random(12);
+        for (int n = 2; n <= EngineSelector.TINY_MAX_STICKS; n++) {
+            int[] sticks = new int[n];
+            for (int i = 0; i < n; i++) {
+                sticks[i] = random.nextInt(50);
+            }
+            assertEquals(GreedyAlgorithms.connectSticksTwoQueue(sticks), EngineSelector.tiny(sticks), "n=" + n);
+        }
+    }
+
+    @Test
+    @DisplayName("Large totals should not wrap")
+    void testLargeTotal() {
+        int[] sticks = new int[100];
+        Arrays.fill(sticks, Integer.MAX_VALUE);
+        long expected = GreedyAlgorithms.connectSticksHeapLong(Arrays.stream(sticks).asLongStream().toArray());
+        assertEquals(expected, GreedyAlgorithms.connectSticks(sticks));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid input")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticks(null));
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticks(new int[]{5}));
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.selectEngine(new int[0]));
+    }
+}
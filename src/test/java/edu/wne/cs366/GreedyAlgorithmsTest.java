@@ -3,6 +3,12 @@ package edu.wne.cs366;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -239,6 +245,597 @@ public class GreedyAlgorithmsTest {
         }
     }
 
+    @Nested
+    @DisplayName("Primitive Heap Approach Tests")
+    class PrimitiveHeapApproachTests {
+
+        @Test
+        @DisplayName("Example from problem description: [2, 4, 3] -> 14")
+        void testBasicExample() {
+            int[] sticks = {2, 4, 3};
+            assertEquals(14, GreedyAlgorithms.connectSticksPrimitiveHeap(sticks));
+        }
+
+        @Test
+        @DisplayName("Five sticks: [4, 3, 2, 6, 1] -> 35")
+        void testFiveSticks() {
+            int[] sticks = {4, 3, 2, 6, 1};
+            assertEquals(35, GreedyAlgorithms.connectSticksPrimitiveHeap(sticks));
+        }
+
+        @Test
+        @DisplayName("Minimum case: two sticks [5, 7] -> 12")
+        void testTwoSticks() {
+            int[] sticks = {5, 7};
+            assertEquals(12, GreedyAlgorithms.connectSticksPrimitiveHeap(sticks));
+        }
+
+        @Test
+        @DisplayName("All equal sticks: [3, 3, 3, 3] -> 24")
+        void testEqualSticks() {
+            int[] sticks = {3, 3, 3, 3};
+            assertEquals(24, GreedyAlgorithms.connectSticksPrimitiveHeap(sticks));
+        }
+
+        @Test
+        @DisplayName("Sorted descending: [10, 8, 6, 4] -> 56")
+        void testSortedDescending() {
+            int[] sticks = {10, 8, 6, 4};
+            assertEquals(56, GreedyAlgorithms.connectSticksPrimitiveHeap(sticks));
+        }
+
+        @Test
+        @DisplayName("Input array should not be modified")
+        void testInputUnchanged() {
+            int[] sticks = {4, 3, 2, 6, 1};
+            GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
+            assertArrayEquals(new int[]{4, 3, 2, 6, 1}, sticks);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null input")
+        void testNullInput() {
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksPrimitiveHeap(null);
+            });
+        }
+
+        @Test
+        @DisplayName("Should throw exception for single stick")
+        void testSingleStick() {
+            int[] sticks = {5};
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("D-ary Heap Approach Tests")
+    class DaryHeapApproachTests {
+
+        @Test
+        @DisplayName("Examples should be solved with every supported arity")
+        void testExamples() {
+            for (int arity : new int[]{2, 4, 8, 16}) {
+                assertEquals(14L, GreedyAlgorithms.connectSticksDaryHeap(new int[]{2, 4, 3}, arity));
+                assertEquals(35L, GreedyAlgorithms.connectSticksDaryHeap(new int[]{4, 3, 2, 6, 1}, arity));
+                assertEquals(12L, GreedyAlgorithms.connectSticksDaryHeap(new int[]{5, 7}, arity));
+                assertEquals(24L, GreedyAlgorithms.connectSticksDaryHeap(new int[]{3, 3, 3, 3}, arity));
+            }
+            assertEquals(56L, GreedyAlgorithms.connectSticksDaryHeap(new int[]{10, 8, 6, 4}));
+        }
+
+        @Test
+        @DisplayName("Should match the primitive heap for sizes around the group boundaries")
+        void testMatchesPrimitiveHeap() {
+            Random random = new Random(13);
+            for (int n = 2; n <= 300; n++) {
+                int[] sticks = new int[n];
+                for (int i = 0; i < n; i++) {
+                    sticks[i] = random.nextInt(1_000) + 1;
+                }
+                long[] longSticks = Arrays.stream(sticks).asLongStream().toArray();
+                long expected = GreedyAlgorithms.connectSticksPrimitiveHeapLong(longSticks);
+                for (int arity : new int[]{2, 4, 8, 16}) {
+                    assertEquals(expected, GreedyAlgorithms.connectSticksDaryHeap(sticks, arity),
+                        "n " + n + " arity " + arity);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should return the full long cost where the int engines wrap")
+        void testLargeCost() {
+            int[] sticks = new int[1_000];
+            Arrays.fill(sticks, Integer.MAX_VALUE);
+            long[] longSticks = Arrays.stream(sticks).asLongStream().toArray();
+            assertEquals(GreedyAlgorithms.connectSticksPrimitiveHeapLong(longSticks),
+                GreedyAlgorithms.connectSticksDaryHeap(sticks, 4));
+        }
+
+        @Test
+        @DisplayName("Input array should not be modified")
+        void testInputUnchanged() {
+            int[] sticks = {4, 3, 2, 6, 1};
+            GreedyAlgorithms.connectSticksDaryHeap(sticks, 8);
+            assertArrayEquals(new int[]{4, 3, 2, 6, 1}, sticks);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid input or arity")
+        void testInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksDaryHeap(null, 4));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksDaryHeap(new int[]{5}, 4));
+            for (int arity : new int[]{-4, 0, 1, 3, 6, 32}) {
+                assertThrows(IllegalArgumentException.class,
+                    () -> GreedyAlgorithms.connectSticksDaryHeap(new int[]{1, 2}, arity), "arity " + arity);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Two-Queue Approach Tests")
+    class TwoQueueApproachTests {
+
+        @Test
+        @DisplayName("Example from problem description: [2, 4, 3] -> 14")
+        void testBasicExample() {
+            int[] sticks = {2, 4, 3};
+            assertEquals(14, GreedyAlgorithms.connectSticksTwoQueue(sticks));
+        }
+
+        @Test
+        @DisplayName("Another example: [1, 8, 3, 5] -> 30")
+        void testSecondExample() {
+            int[] sticks = {1, 8, 3, 5};
+            assertEquals(30, GreedyAlgorithms.connectSticksTwoQueue(sticks));
+        }
+
+        @Test
+        @DisplayName("All equal sticks: [3, 3, 3, 3] -> 24")
+        void testEqualSticks() {
+            int[] sticks = {3, 3, 3, 3};
+            assertEquals(24, GreedyAlgorithms.connectSticksTwoQueue(sticks));
+        }
+
+        @Test
+        @DisplayName("Wide value range (Arrays.sort path): [100, 200, 150] -> 700")
+        void testWideRange() {
+            int[] sticks = {100, 200, 150};
+            assertEquals(700, GreedyAlgorithms.connectSticksTwoQueue(sticks));
+        }
+
+        @Test
+        @DisplayName("Input array should not be modified")
+        void testInputUnchanged() {
+            int[] sticks = {4, 3, 2, 6, 1};
+            GreedyAlgorithms.connectSticksTwoQueue(sticks);
+            assertArrayEquals(new int[]{4, 3, 2, 6, 1}, sticks);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null input")
+        void testNullInput() {
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksTwoQueue(null);
+            });
+        }
+
+        @Test
+        @DisplayName("Should throw exception for single stick")
+        void testSingleStick() {
+            int[] sticks = {5};
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksTwoQueue(sticks);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("K-ary Approach Tests")
+    class KaryApproachTests {
+
+        /**
+         * Exhaustive search over every way of joining 2..k of the remaining sticks.
+         */
+        private long bruteForce(long[] sticks, int k) {
+            if (sticks.length <= 1) {
+                return 0;
+            }
+            long best = Long.MAX_VALUE;
+            int n = sticks.length;
+            for (int mask = 1; mask < 1 << n; mask++) {
+                int size = Integer.bitCount(mask);
+                if (size < 2 || size > k) {
+                    continue;
+                }
+                long[] rest = new long[n - size + 1];
+                int pos = 0;
+                long joined = 0;
+                for (int i = 0; i < n; i++) {
+                    if ((mask & 1 << i) != 0) {
+                        joined += sticks[i];
+                    } else {
+                        rest[pos++] = sticks[i];
+                    }
+                }
+                rest[pos] = joined;
+                best = Math.min(best, joined + bruteForce(rest, k));
+            }
+            return best;
+        }
+
+        @Test
+        @DisplayName("Examples: [2, 4, 3] -> 9, [4, 3, 2, 6, 1] -> 22, [3, 3, 3, 3] -> 18 with k = 3")
+        void testExamples() {
+            assertEquals(9L, GreedyAlgorithms.connectSticksKary(new int[]{2, 4, 3}, 3));
+            assertEquals(22L, GreedyAlgorithms.connectSticksKary(new int[]{4, 3, 2, 6, 1}, 3));
+            // One dummy: the first step joins only 3 + 3
+            assertEquals(18L, GreedyAlgorithms.connectSticksKary(new int[]{3, 3, 3, 3}, 3));
+            assertEquals(35L, GreedyAlgorithms.connectSticksKary(new int[]{4, 3, 2, 6, 1}, 2));
+        }
+
+        @Test
+        @DisplayName("k = 2 should match the pairwise engines")
+        void testMatchesPairwise() {
+            Random random = new Random(21);
+            for (int n = 2; n <= 300; n += 7) {
+                int[] sticks = new int[n];
+                for (int i = 0; i < n; i++) {
+                    sticks[i] = 1 + random.nextInt(n % 2 == 0 ? 50 : 1_000_000);
+                }
+                long expected = GreedyAlgorithms.connectSticksHeap(sticks);
+                assertEquals(expected, GreedyAlgorithms.connectSticksKary(sticks, 2), "n=" + n);
+                assertEquals(expected, GreedyAlgorithms.connectSticksPrimitiveHeap(sticks), "n=" + n);
+            }
+        }
+
+        @Test
+        @DisplayName("Should match exhaustive search for every padding amount")
+        void testMatchesBruteForce() {
+            Random random = new Random(22);
+            for (int n = 2; n <= 7; n++) {
+                for (int k = 2; k <= 8; k++) {
+                    for (int trial = 0; trial < 5; trial++) {
+                        int[] sticks = new int[n];
+                        long[] copy = new long[n];
+                        for (int i = 0; i < n; i++) {
+                            sticks[i] = random.nextInt(trial == 0 ? 3 : 100);
+                            copy[i] = sticks[i];
+                        }
+                        assertEquals(bruteForce(copy, k), GreedyAlgorithms.connectSticksKary(sticks, k),
+                            Arrays.toString(sticks) + " k=" + k);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("k >= n should join everything in one step")
+        void testSingleStep() {
+            int[] sticks = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 7};
+            long sum = 3L * Integer.MAX_VALUE + 7;
+            assertEquals(sum, GreedyAlgorithms.connectSticksKary(sticks, 4));
+            assertEquals(sum, GreedyAlgorithms.connectSticksKary(sticks, Integer.MAX_VALUE));
+            assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 7}, sticks);
+        }
+
+        @Test
+        @DisplayName("Should not cost more as k grows")
+        void testMonotoneInK() {
+            Random random = new Random(23);
+            int[] sticks = new int[10_000];
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = 1 + random.nextInt(1_000_000);
+            }
+            long previous = Long.MAX_VALUE;
+            for (int k = 2; k <= 16; k++) {
+                long cost = GreedyAlgorithms.connectSticksKary(sticks, k);
+                assertTrue(cost <= previous, "k=" + k);
+                previous = cost;
+            }
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid input or k")
+        void testValidation() {
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksKary(null, 3));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksKary(new int[]{5}, 3));
+            for (int k : new int[]{-1, 0, 1}) {
+                assertThrows(IllegalArgumentException.class,
+                    () -> GreedyAlgorithms.connectSticksKary(new int[]{1, 2}, k), "k " + k);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Reference Approach Tests")
+    class ReferenceApproachTests {
+
+        @Test
+        @DisplayName("Examples: [2, 4, 3] -> 14, [4, 3, 2, 6, 1] -> 35, [3, 3, 3, 3] -> 24")
+        void testExamples() {
+            assertEquals(14L, GreedyAlgorithms.connectSticksReference(new long[]{2, 4, 3}));
+            assertEquals(35L, GreedyAlgorithms.connectSticksReference(new long[]{4, 3, 2, 6, 1}));
+            assertEquals(24L, GreedyAlgorithms.connectSticksReference(new long[]{3, 3, 3, 3}));
+            assertEquals(12L, GreedyAlgorithms.connectSticksReference(new long[]{7, 5}));
+        }
+
+        @Test
+        @DisplayName("Should match the naive approach it stands in for")
+        void testMatchesNaive() {
+            Random random = new Random(16);
+            for (int trial = 0; trial < 200; trial++) {
+                long[] sticks = new long[2 + random.nextInt(300)];
+                for (int i = 0; i < sticks.length; i++) {
+                    sticks[i] = random.nextInt(trial % 2 == 0 ? 10 : 1_000_000) + 1;
+                }
+                long[] copy = sticks.clone();
+                assertEquals(GreedyAlgorithms.connectSticksNaiveLong(sticks),
+                    GreedyAlgorithms.connectSticksReference(sticks), "trial " + trial);
+                assertArrayEquals(copy, sticks);
+            }
+        }
+
+        @Test
+        @DisplayName("Inputs above the O(n²) guard should be rejected")
+        void testGuard() {
+            long[] atLimit = new long[GreedyAlgorithms.REFERENCE_MAX_STICKS];
+            Arrays.fill(atLimit, 1);
+            assertEquals(GreedyAlgorithms.connectSticksTwoQueueLong(atLimit), GreedyAlgorithms.connectSticksReference(atLimit));
+            assertThrows(IllegalArgumentException.class,
+                () -> GreedyAlgorithms.connectSticksReference(new long[GreedyAlgorithms.REFERENCE_MAX_STICKS + 1]));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksReference(new long[]{1, -2}));
+        }
+    }
+
+    @Nested
+    @DisplayName("64-bit Overflow-Safe API Tests")
+    class LongApiTests {
+
+        @Test
+        @DisplayName("Every 64-bit engine solves [2, 4, 3] -> 14")
+        void testBasicExample() {
+            long[] sticks = {2, 4, 3};
+            assertEquals(14L, GreedyAlgorithms.connectSticksNaiveLong(sticks));
+            assertEquals(14L, GreedyAlgorithms.connectSticksHeapLong(sticks));
+            assertEquals(14L, GreedyAlgorithms.connectSticksPrimitiveHeapLong(sticks));
+            assertEquals(14L, GreedyAlgorithms.connectSticksTwoQueueLong(sticks));
+        }
+
+        @Test
+        @DisplayName("Costs beyond Integer.MAX_VALUE are computed without wrapping")
+        void testBeyondIntRange() {
+            // 300,000 sticks of length 10^4: the int engines silently wrap here
+            long[] sticks = new long[300_000];
+            Arrays.fill(sticks, 10_000L);
+
+            long expected = GreedyAlgorithms.connectSticksHeapLong(sticks);
+            assertTrue(expected > Integer.MAX_VALUE, "Cost should exceed the int range");
+            assertEquals(expected, GreedyAlgorithms.connectSticksPrimitiveHeapLong(sticks));
+            assertEquals(expected, GreedyAlgorithms.connectSticksTwoQueueLong(sticks));
+        }
+
+        @Test
+        @DisplayName("64-bit engines fail fast on overflow")
+        void testStrictOverflow() {
+            long[] sticks = {Long.MAX_VALUE, 1};
+            assertThrows(ArithmeticException.class, () -> GreedyAlgorithms.connectSticksNaiveLong(sticks));
+            assertThrows(ArithmeticException.class, () -> GreedyAlgorithms.connectSticksHeapLong(sticks));
+            assertThrows(ArithmeticException.class, () -> GreedyAlgorithms.connectSticksPrimitiveHeapLong(sticks));
+            assertThrows(ArithmeticException.class, () -> GreedyAlgorithms.connectSticksTwoQueueLong(sticks));
+        }
+
+        @Test
+        @DisplayName("Exact API stays on the long path for in-range inputs")
+        void testExactLongPath() {
+            StickCost cost = GreedyAlgorithms.connectSticksExact(new long[]{1, 8, 3, 5});
+            assertEquals(StickCost.Path.LONG, cost.path());
+            assertEquals(30L, cost.longValueExact());
+        }
+
+        @Test
+        @DisplayName("Exact API falls back to BigInteger on overflow")
+        void testExactBigIntegerPath() {
+            StickCost cost = GreedyAlgorithms.connectSticksExact(new long[]{Long.MAX_VALUE, Long.MAX_VALUE, 1});
+            // 1 + MAX = 2^63, then MAX + 2^63 = 2^64 - 1
+            BigInteger first = BigInteger.ONE.shiftLeft(63);
+            BigInteger second = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+            assertEquals(StickCost.Path.BIG_INTEGER, cost.path());
+            assertEquals(first.add(second), cost.value());
+            assertThrows(ArithmeticException.class, cost::longValueExact);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for negative lengths")
+        void testNegativeLength() {
+            long[] sticks = {3, -1, 4};
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksPrimitiveHeapLong(sticks);
+            });
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null input")
+        void testNullInput() {
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksTwoQueueLong(null);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Approach Tests")
+    class ParallelApproachTests {
+
+        private int[] randomSticks(int count, int maxLength) {
+            Random random = new Random(6);
+            int[] sticks = new int[count];
+            for (int i = 0; i < count; i++) {
+                sticks[i] = random.nextInt(maxLength) + 1;
+            }
+            return sticks;
+        }
+
+        @Test
+        @DisplayName("Example from problem description: [2, 4, 3] -> 14")
+        void testBasicExample() {
+            assertEquals(14L, GreedyAlgorithms.connectSticksParallel(new int[]{2, 4, 3}));
+        }
+
+        @Test
+        @DisplayName("Parallel counting sort path should match the heap approach")
+        void testParallelCountingSort() {
+            int[] sticks = randomSticks(200_000, 100);
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                assertEquals(GreedyAlgorithms.connectSticksTwoQueue(sticks),
+                    GreedyAlgorithms.connectSticksParallel(sticks, pool, 0));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Parallel sort path should match the heap approach on a wide value range")
+        void testParallelSort() {
+            int[] sticks = randomSticks(200_000, 1_000);
+            long[] longSticks = Arrays.stream(sticks).asLongStream().toArray();
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                assertEquals(GreedyAlgorithms.connectSticksPrimitiveHeapLong(longSticks),
+                    GreedyAlgorithms.connectSticksParallel(sticks, pool, 0));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Input array should not be modified")
+        void testInputUnchanged() {
+            int[] sticks = randomSticks(100_000, 1_000_000);
+            int[] copy = sticks.clone();
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                GreedyAlgorithms.connectSticksParallel(sticks, pool, 0);
+            } finally {
+                pool.shutdown();
+            }
+            assertArrayEquals(copy, sticks);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null input")
+        void testNullInput() {
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksParallel(null);
+            });
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null pool")
+        void testNullPool() {
+            assertThrows(IllegalArgumentException.class, () -> {
+                GreedyAlgorithms.connectSticksParallel(new int[]{1, 2}, null, 0);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Run-Length and Histogram Approach Tests")
+    class RunLengthApproachTests {
+
+        @Test
+        @DisplayName("Example from problem description: [2, 4, 3] -> 14")
+        void testBasicExample() {
+            assertEquals(14L, GreedyAlgorithms.connectSticksRunLength(new int[]{2, 4, 3}));
+        }
+
+        @Test
+        @DisplayName("All equal sticks: [3, 3, 3, 3] -> 24")
+        void testEqualSticks() {
+            assertEquals(24L, GreedyAlgorithms.connectSticksRunLength(new int[]{3, 3, 3, 3}));
+        }
+
+        @Test
+        @DisplayName("Odd runs: [2, 2, 2, 5, 5] -> 4 + 6 + 10 + 16 = 36")
+        void testOddRuns() {
+            int[] sticks = {2, 2, 2, 5, 5};
+            assertEquals(GreedyAlgorithms.connectSticksHeap(sticks), GreedyAlgorithms.connectSticksRunLength(sticks));
+        }
+
+        @Test
+        @DisplayName("Should match the heap approach on narrow and wide value ranges")
+        void testMatchesHeap() {
+            Random random = new Random(11);
+            int[] maxLengths = {1, 2, 10, 100, 5_000, 1_000_000_000};
+            for (int trial = 0; trial < 300; trial++) {
+                int[] sticks = new int[2 + random.nextInt(2_000)];
+                int maxLength = maxLengths[trial % maxLengths.length];
+                for (int i = 0; i < sticks.length; i++) {
+                    sticks[i] = random.nextInt(maxLength) + 1;
+                }
+                long[] longSticks = Arrays.stream(sticks).asLongStream().toArray();
+                assertEquals(GreedyAlgorithms.connectSticksPrimitiveHeapLong(longSticks),
+                    GreedyAlgorithms.connectSticksRunLength(sticks), "trial " + trial);
+            }
+        }
+
+        @Test
+        @DisplayName("Histogram of lengths 1..100 should match the materialized sticks")
+        void testDenseHistogram() {
+            Random random = new Random(12);
+            long[] countByLength = new long[101];
+            int[] sticks = new int[50_000];
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = 1 + random.nextInt(100);
+                countByLength[sticks[i]]++;
+            }
+            assertEquals(GreedyAlgorithms.connectSticksTwoQueue(sticks), GreedyAlgorithms.connectSticksHistogram(countByLength));
+        }
+
+        @Test
+        @DisplayName("Histogram pairs may be unordered, repeated and include zero counts")
+        void testUnorderedHistogram() {
+            // Same sticks as [1, 8, 3, 5] -> 30
+            long[] lengths = {5, 8, 1, 7, 3, 5};
+            long[] counts = {0, 1, 1, 0, 1, 1};
+            assertEquals(30L, GreedyAlgorithms.connectSticksHistogram(lengths, counts));
+        }
+
+        @Test
+        @DisplayName("Huge multiplicities should be merged without materializing the sticks")
+        void testHugeHistogram() {
+            // 2^40 sticks of length 1: a perfect binary tree of depth 40, each level costs 2^40
+            long[] countByLength = new long[2];
+            countByLength[1] = 1L << 40;
+            assertEquals(40L << 40, GreedyAlgorithms.connectSticksHistogram(countByLength));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for negative lengths or invalid histograms")
+        void testInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksRunLength(null));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksRunLength(new int[]{5}));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksRunLength(new int[]{-1, 5}));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksHistogram(new long[]{0, 1}));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksHistogram(new long[]{0, -1, 3}));
+            assertThrows(IllegalArgumentException.class,
+                () -> GreedyAlgorithms.connectSticksHistogram(new long[]{1, 2}, new long[]{1}));
+            assertThrows(IllegalArgumentException.class,
+                () -> GreedyAlgorithms.connectSticksHistogram(new long[]{-1, 2}, new long[]{1, 1}));
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksHistogram(null, null));
+        }
+
+        @Test
+        @DisplayName("Should throw ArithmeticException when the total overflows a long")
+        void testOverflow() {
+            assertThrows(ArithmeticException.class,
+                () -> GreedyAlgorithms.connectSticksHistogram(new long[]{Long.MAX_VALUE / 4}, new long[]{8}));
+        }
+    }
+
     @Nested
     @DisplayName("Consistency Tests: Naive vs Heap")
     class ConsistencyTests {
@@ -320,9 +917,25 @@ public class GreedyAlgorithmsTest {
 
             int naiveResult = GreedyAlgorithms.connectSticksNaive(sticks);
             int heapResult = GreedyAlgorithms.connectSticksHeap(sticks);
+            int primitiveHeapResult = GreedyAlgorithms.connectSticksPrimitiveHeap(sticks);
 
             assertEquals(naiveResult, heapResult,
                 "Naive and heap approaches must produce same result on random data");
+            assertEquals(heapResult, primitiveHeapResult,
+                "Heap and primitive heap approaches must produce same result on random data");
+            assertEquals(heapResult, GreedyAlgorithms.connectSticksTwoQueue(sticks),
+                "Heap and two-queue approaches must produce same result on random data");
+        }
+
+        @Test
+        @DisplayName("Two-queue should match heap on a bounded range large enough for counting sort")
+        void testTwoQueueCountingSortConsistency() {
+            int[] sticks = new int[1000];
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = (int) (Math.random() * 100) + 1;
+            }
+            assertEquals(GreedyAlgorithms.connectSticksHeap(sticks),
+                GreedyAlgorithms.connectSticksTwoQueue(sticks));
         }
     }
 
@@ -0,0 +1,89 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for connectSticksWithPlan() and the MergePlan replay/verify utility.
+ */
+public class MergePlanTest {
+
+    @Test
+    @DisplayName("Plan for [1, 8, 3, 5] should list the greedy steps")
+    void testSecondExamplePlan() {
+        int[] sticks = {1, 8, 3, 5};
+        MergePlan plan = GreedyAlgorithms.connectSticksWithPlan(sticks);
+
+        // Step 0: stick 0 (1) + stick 2 (3) = 4, becomes stick 4
+        // Step 1: stick 4 (4) + stick 3 (5) = 9, becomes stick 5
+        // Step 2: stick 1 (8) + stick 5 (9) = 17
+        assertEquals(3, plan.steps());
+        assertArrayEquals(new int[]{0, 4, 1}, plan.leftIds());
+        assertArrayEquals(new int[]{2, 3, 5}, plan.rightIds());
+        assertArrayEquals(new long[]{4, 9, 17}, plan.sums());
+        assertEquals(30L, plan.cost());
+        assertTrue(plan.isOriginal(3));
+        assertFalse(plan.isOriginal(4));
+    }
+
+    @Test
+    @DisplayName("Plan cost should match the heap approach and replay to the same cost")
+    void testRandomPlans() {
+        Random random = new Random(8);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] sticks = new int[2 + random.nextInt(500)];
+            int maxLength = trial % 2 == 0 ? 10 : 100_000;
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = random.nextInt(maxLength) + 1;
+            }
+
+            MergePlan plan = GreedyAlgorithms.connectSticksWithPlan(sticks);
+            assertEquals(GreedyAlgorithms.connectSticksHeap(sticks), plan.cost());
+            assertEquals(plan.cost(), MergePlan.replay(sticks, plan));
+            assertTrue(plan.verify(sticks));
+        }
+    }
+
+    @Test
+    @DisplayName("Replay should reject a plan that uses a stick twice")
+    void testReplayRejectsReuse() {
+        int[] sticks = {2, 4, 3};
+        MergePlan plan = new MergePlan(3, new int[]{0, 0}, new int[]{2, 3}, new long[]{5, 7}, 12);
+        assertThrows(IllegalArgumentException.class, () -> MergePlan.replay(sticks, plan));
+    }
+
+    @Test
+    @DisplayName("Replay should reject a plan whose sums do not match the sticks")
+    void testReplayRejectsWrongSum() {
+        int[] sticks = {2, 4, 3};
+        MergePlan plan = new MergePlan(3, new int[]{0, 1}, new int[]{2, 3}, new long[]{6, 10}, 16);
+        assertThrows(IllegalArgumentException.class, () -> MergePlan.replay(sticks, plan));
+    }
+
+    @Test
+    @DisplayName("Replay should reject a plan built for different sticks")
+    void testReplayRejectsWrongInput() {
+        MergePlan plan = GreedyAlgorithms.connectSticksWithPlan(new int[]{2, 4, 3});
+        assertThrows(IllegalArgumentException.class, () -> MergePlan.replay(new int[]{1, 2}, plan));
+    }
+
+    @Test
+    @DisplayName("Verify should report a plan whose recorded cost is wrong")
+    void testVerifyWrongCost() {
+        int[] sticks = {2, 4, 3};
+        MergePlan plan = new MergePlan(3, new int[]{0, 1}, new int[]{2, 3}, new long[]{5, 9}, 15);
+        assertFalse(plan.verify(sticks));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for single stick")
+    void testSingleStick() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            GreedyAlgorithms.connectSticksWithPlan(new int[]{5});
+        });
+    }
+}
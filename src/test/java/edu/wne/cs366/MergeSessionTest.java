@@ -0,0 +1,92 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for partial merges and resumable MergeSession handles.
+ */
+public class MergeSessionTest {
+
+    @Test
+    @DisplayName("Merging down to two sticks should leave the expected sticks and cost")
+    void testUntil() {
+        // [4, 3, 2, 6, 1]: 1+2=3, 3+3=6, then [4, 6, 6]; 4+6=10 leaves [6, 10]
+        MergeSession session = GreedyAlgorithms.connectSticksUntil(new int[]{4, 3, 2, 6, 1}, 2);
+        assertArrayEquals(new long[]{6, 10}, session.remainingSticks());
+        assertEquals(3 + 6 + 10, session.cost());
+        assertEquals(3, session.merges());
+        assertEquals(2, session.remainingCount());
+        assertFalse(session.isComplete());
+        assertEquals(16, session.nextMergeCost());
+        assertEquals(35, session.finish());
+        assertTrue(session.isComplete());
+    }
+
+    @Test
+    @DisplayName("Budget should stop before the first step that exceeds it")
+    void testBudget() {
+        int[] sticks = {4, 3, 2, 6, 1};
+        assertEquals(0, GreedyAlgorithms.connectSticksWithinBudget(sticks, 2).cost());
+        assertEquals(3, GreedyAlgorithms.connectSticksWithinBudget(sticks, 8).cost());
+        assertEquals(9, GreedyAlgorithms.connectSticksWithinBudget(sticks, 9).cost());
+        assertEquals(19, GreedyAlgorithms.connectSticksWithinBudget(sticks, 34).cost());
+        assertTrue(GreedyAlgorithms.connectSticksWithinBudget(sticks, 35).isComplete());
+        assertTrue(GreedyAlgorithms.connectSticksWithinBudget(sticks, Long.MAX_VALUE).isComplete());
+    }
+
+    @Test
+    @DisplayName("Resuming in steps should perform the same merges as one full run")
+    void testResume() {
+        Random random = new Random(14);
+        for (int trial = 0; trial < 100; trial++) {
+            int[] sticks = new int[2 + random.nextInt(500)];
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = 1 + random.nextInt(10_000);
+            }
+            long expected = GreedyAlgorithms.connectSticks(sticks);
+
+            MergeSession session = GreedyAlgorithms.mergeSession(sticks);
+            assertEquals(0, session.cost());
+            long spent = 0;
+            while (!session.isComplete()) {
+                if (random.nextBoolean()) {
+                    spent += session.mergeUntil(Math.max(1, session.remainingCount() - random.nextInt(20)));
+                } else {
+                    spent += session.mergeWithinBudget(session.cost() + random.nextInt(50_000));
+                }
+                assertEquals(session.cost(), spent);
+                assertEquals(session.stickCount() - session.merges(), session.remainingSticks().length);
+            }
+            assertEquals(expected, session.finish(), "trial " + trial);
+            assertArrayEquals(new long[]{Arrays.stream(sticks).asLongStream().sum()}, session.remainingSticks());
+        }
+    }
+
+    @Test
+    @DisplayName("Partial merges should not modify the input or wrap around")
+    void testInputAndOverflow() {
+        int[] sticks = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        MergeSession session = GreedyAlgorithms.connectSticksUntil(sticks, 2);
+        assertEquals(2L * Integer.MAX_VALUE, session.cost());
+        assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}, sticks);
+        assertEquals(5L * Integer.MAX_VALUE, session.finish());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.mergeSession(null));
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksUntil(new int[]{1}, 1));
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksUntil(new int[]{1, 2}, 0));
+        MergeSession done = GreedyAlgorithms.connectSticksUntil(new int[]{1, 2}, 1);
+        assertThrows(IllegalStateException.class, done::nextMergeCost);
+        assertEquals(0, done.mergeUntil(1));
+        assertEquals(0, done.mergeWithinBudget(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,137 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the multiset-fingerprint result cache.
+ */
+public class ResultCacheTest {
+
+    private static int[] random(Random random, int n) {
+        int[] sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000);
+        }
+        return sticks;
+    }
+
+    private static void shuffle(int[] sticks, Random random) {
+        for (int i = sticks.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = sticks[i];
+            sticks[i] = sticks[j];
+            sticks[j] = t;
+        }
+    }
+
+    @Test
+    @DisplayName("A reordering of a cached instance should be a hit with the same cost")
+    void testReorderedHit() {
+        AtomicInteger solves = new AtomicInteger();
+        ResultCache cache = new ResultCache(8, sticks -> {
+            solves.incrementAndGet();
+            return GreedyAlgorithms.connectSticks(sticks);
+        });
+        Random random = new Random(19);
+        int[] sticks = random(random, 500);
+        long expected = GreedyAlgorithms.connectSticks(sticks);
+
+        assertEquals(expected, cache.connectSticks(sticks));
+        for (int i = 0; i < 5; i++) {
+            shuffle(sticks, random);
+            assertEquals(expected, cache.connectSticks(sticks));
+        }
+        assertEquals(1, solves.get());
+        assertEquals(5, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(5.0 / 6, cache.hitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Different multisets should get different keys")
+    void testDistinctMultisets() {
+        int[] base = new int[32];
+        Arrays.fill(base, 10);
+        ResultCache.Key key = ResultCache.fingerprint(base);
+
+        int[] changed = base.clone();
+        changed[7] = 11;
+        assertNotEquals(key, ResultCache.fingerprint(changed));
+        // Same sum, different lengths
+        changed[8] = 9;
+        assertNotEquals(key, ResultCache.fingerprint(changed));
+        // Same lengths, one more stick
+        assertNotEquals(key, ResultCache.fingerprint(Arrays.copyOf(base, 33)));
+        // Pairs of equal sticks must not cancel out
+        int[] pairs = base.clone();
+        pairs[0] = 5;
+        pairs[1] = 5;
+        int[] otherPairs = base.clone();
+        otherPairs[0] = 6;
+        otherPairs[1] = 6;
+        assertNotEquals(ResultCache.fingerprint(pairs), ResultCache.fingerprint(otherPairs));
+
+        int[] reordered = base.clone();
+        reordered[0] = 99;
+        int[] moved = base.clone();
+        moved[31] = 99;
+        assertEquals(ResultCache.fingerprint(reordered), ResultCache.fingerprint(moved));
+    }
+
+    @Test
+    @DisplayName("The least recently used entry should be evicted first")
+    void testLruEviction() {
+        ResultCache cache = new ResultCache(2);
+        Random random = new Random(20);
+        int[] a = random(random, 20);
+        int[] b = random(random, 20);
+        int[] c = random(random, 20);
+
+        cache.connectSticks(a);
+        cache.connectSticks(b);
+        cache.connectSticks(a);          // a is now more recent than b
+        cache.connectSticks(c);          // evicts b
+        assertEquals(1, cache.evictions());
+        assertEquals(2, cache.size());
+
+        cache.connectSticks(a);
+        assertEquals(2, cache.hits());
+        cache.connectSticks(b);
+        assertEquals(4, cache.misses());
+        assertTrue(cache.toString().contains("evictions=2"), cache.toString());
+    }
+
+    @Test
+    @DisplayName("Tiny inputs and failures should bypass the cache")
+    void testBypass() {
+        ResultCache cache = new ResultCache(4);
+        assertEquals(14, cache.connectSticks(new int[]{2, 4, 3}));
+        assertEquals(0, cache.hits() + cache.misses());
+        assertEquals(0, cache.size());
+
+        int[] sticks = new int[ResultCache.MIN_CACHED_STICKS];
+        Arrays.fill(sticks, 7);
+        ResultCache failing = new ResultCache(4, s -> {
+            throw new ArithmeticException("long overflow");
+        });
+        assertThrows(ArithmeticException.class, () -> failing.connectSticks(sticks));
+        assertEquals(0, failing.size());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(4, null));
+        ResultCache cache = new ResultCache(4);
+        assertThrows(IllegalArgumentException.class, () -> cache.connectSticks(null));
+        assertThrows(IllegalArgumentException.class, () -> cache.connectSticks(new int[]{1}));
+    }
+}
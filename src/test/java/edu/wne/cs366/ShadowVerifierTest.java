@@ -0,0 +1,103 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for shadow verification against the reference engine.
+ */
+public class ShadowVerifierTest {
+
+    private static int[] random(Random random, int n, int maxLength) {
+        int[] sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(maxLength);
+        }
+        return sticks;
+    }
+
+    @Test
+    @DisplayName("Correct engines should pass whole and sampled checks without mismatches")
+    void testNoFalsePositives() {
+        List<ShadowVerifier.Mismatch> found = new ArrayList<>();
+        ShadowVerifier verifier = new ShadowVerifier(1_000, 64, 16L, found::add);
+        Random random = new Random(16);
+        int[] maxLengths = {10, 5_000, 1_000_000_000};
+        for (int trial = 0; trial < 60; trial++) {
+            int[] sticks = random(random, 2 + random.nextInt(trial % 2 == 0 ? 64 : 5_000), maxLengths[trial % 3]);
+            if (trial % 5 == 0) {
+                Arrays.sort(sticks);
+            }
+            assertEquals(GreedyAlgorithms.connectSticks(sticks), verifier.connectSticks(sticks));
+        }
+        assertEquals(60, verifier.calls());
+        assertEquals(60, verifier.checks(), "a generous budget checks every call");
+        assertTrue(verifier.sampledChecks() > 0 && verifier.sampledChecks() < 60);
+        assertEquals(0, verifier.mismatches());
+        assertTrue(found.isEmpty(), found.toString());
+    }
+
+    @Test
+    @DisplayName("A broken engine should be reported, whole and sampled")
+    void testReportsMismatch() {
+        List<ShadowVerifier.Mismatch> found = new ArrayList<>();
+        // Off by one whenever more than 100 sticks are merged
+        ShadowVerifier verifier = new ShadowVerifier(1_000, 200, 17L, found::add,
+            sticks -> GreedyAlgorithms.connectSticks(sticks) + (sticks.length > 100 ? 1 : 0),
+            EngineSelection.Engine.HEAP);
+
+        int[] small = random(new Random(17), 150, 1_000);
+        assertEquals(GreedyAlgorithms.connectSticks(small) + 1, verifier.connectSticks(small));
+        int[] large = random(new Random(18), 10_000, 1_000);
+        verifier.connectSticks(large);
+
+        assertEquals(2, verifier.mismatches());
+        assertEquals(2, found.size());
+        ShadowVerifier.Mismatch whole = found.get(0);
+        assertFalse(whole.sampled());
+        assertArrayEquals(small, whole.sticks());
+        assertEquals(whole.expected() + 1, whole.actual());
+        assertEquals(EngineSelection.Engine.HEAP, whole.engine());
+        ShadowVerifier.Mismatch sampled = found.get(1);
+        assertTrue(sampled.sampled());
+        assertEquals(200, sampled.sticks().length);
+        assertEquals(GreedyAlgorithms.connectSticks(sampled.sticks()), sampled.expected());
+    }
+
+    @Test
+    @DisplayName("Checks should stay within the CPU budget")
+    void testBudget() {
+        ShadowVerifier verifier = new ShadowVerifier(0.05, 512, 19L, m -> fail(m.toString()));
+        int[] sticks = random(new Random(19), 20_000, 1_000_000_000);
+        for (int i = 0; i < 300; i++) {
+            verifier.connectSticks(sticks);
+        }
+        assertTrue(verifier.checks() > 0);
+        assertTrue(verifier.checks() < verifier.calls());
+        // One reference call may overshoot; over many calls the share approaches the budget
+        assertTrue(verifier.oracleShare() < 0.10, verifier.toString());
+
+        ShadowVerifier off = new ShadowVerifier(0, m -> fail(m.toString()));
+        off.connectSticks(sticks);
+        assertEquals(0, off.checks());
+    }
+
+    @Test
+    @DisplayName("Invalid configuration should be rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new ShadowVerifier(-0.1, m -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new ShadowVerifier(Double.NaN, m -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new ShadowVerifier(0.01, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ShadowVerifier(0.01, GreedyAlgorithms.REFERENCE_MAX_STICKS + 1, 1L, m -> { }));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ShadowVerifier(0.01, m -> { }).connectSticks(new int[]{1}));
+    }
+}
@@ -0,0 +1,254 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the solver daemon, its client and the load generator, over loopback TCP and a
+ * Unix-domain socket.
+ */
+public class SolverServerTest {
+
+    private static final SocketAddress ANY_PORT = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+    private static int[] random(Random random, int n) {
+        int[] sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000);
+        }
+        return sticks;
+    }
+
+    @Test
+    @DisplayName("Examples should be answered over TCP")
+    void testExamples() throws IOException {
+        try (SolverServer server = SolverServer.start(ANY_PORT);
+             SolverClient client = SolverClient.connect(server.address())) {
+            assertEquals(14, client.solve(new int[]{2, 4, 3}));
+            assertEquals(35, client.solve(new int[]{4, 3, 2, 6, 1}));
+            assertEquals(12, client.solve(new int[]{5, 7}));
+            assertEquals(3, server.requests());
+            assertEquals(0, server.failures());
+            assertTrue(server.latencyNanos(50) > 0);
+            assertTrue(server.latencyNanos(99) >= server.latencyNanos(50));
+            assertTrue(server.toString().contains("requests=3"), server.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelined requests should be answered in order and batched")
+    void testPipelining() throws IOException {
+        Random random = new Random(23);
+        try (SolverServer server = SolverServer.start(ANY_PORT, 64, 16, Duration.ofMillis(5));
+             SolverClient client = SolverClient.connect(server.address())) {
+            List<int[]> instances = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int[] sticks = random(random, 2 + random.nextInt(300));
+                instances.add(sticks);
+                client.send(sticks);
+            }
+            for (int[] sticks : instances) {
+                assertEquals(GreedyAlgorithms.connectSticksDaryHeap(sticks), client.receive());
+            }
+            assertEquals(200, server.requests());
+            assertTrue(server.batches() < 200, "batches " + server.batches());
+            assertEquals(SolverServer.MAX_BUFFERED_STICKS, server.availableSticks());
+        }
+    }
+
+    @Test
+    @DisplayName("Large requests should be solved apart from the batches and answered in order")
+    void testLargeRequests() throws IOException {
+        Random random = new Random(11);
+        try (SolverServer server = SolverServer.start(ANY_PORT, 64, 16, Duration.ofMillis(5));
+             SolverClient client = SolverClient.connect(server.address())) {
+            List<int[]> instances = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                int n = i % 4 == 0 ? SolverServer.LARGE_REQUEST_STICKS + i : 2 + random.nextInt(100);
+                int[] sticks = random(random, n);
+                instances.add(sticks);
+                client.send(sticks);
+            }
+            for (int[] sticks : instances) {
+                assertEquals(GreedyAlgorithms.connectSticksDaryHeap(sticks), client.receive());
+            }
+            assertEquals(12, server.requests());
+            assertEquals(0, server.failures());
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent connections should all get their own answers")
+    void testConcurrentClients() throws Exception {
+        try (SolverServer server = SolverServer.start(ANY_PORT, 8, 8, Duration.ZERO)) {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int c = 0; c < 8; c++) {
+                    long seed = c;
+                    futures.add(executor.submit(() -> {
+                        Random random = new Random(seed);
+                        try (SolverClient client = SolverClient.connect(server.address())) {
+                            for (int i = 0; i < 100; i++) {
+                                int[] sticks = random(random, 2 + random.nextInt(100));
+                                assertEquals(GreedyAlgorithms.connectSticksDaryHeap(sticks), client.solve(sticks));
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            assertEquals(800, server.requests());
+            assertEquals(8, server.connections());
+            assertTrue(server.throughput() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Errors should be reported per request without closing the connection")
+    void testErrors() throws IOException {
+        // Not an error: even the largest lengths cost far less than a long can hold
+        int[] huge = new int[40];
+        Arrays.fill(huge, Integer.MAX_VALUE);
+        try (SolverServer server = SolverServer.start(ANY_PORT);
+             SolverClient client = SolverClient.connect(server.address())) {
+            assertThrows(IllegalArgumentException.class, () -> client.solve(new int[]{5}));
+            assertThrows(IllegalArgumentException.class, () -> client.solve(new int[0]));
+            assertEquals(GreedyAlgorithms.connectSticksDaryHeap(huge), client.solve(huge));
+            assertThrows(IllegalArgumentException.class, () -> client.solve(null));
+            assertEquals(14, client.solve(new int[]{2, 4, 3}));
+            assertEquals(2, server.failures());
+            assertEquals(SolverServer.MAX_BUFFERED_STICKS, server.availableSticks());
+        }
+    }
+
+    @Test
+    @DisplayName("An oversized frame should be rejected and the connection closed")
+    void testOversizedFrame() throws IOException {
+        try (SolverServer server = SolverServer.start(ANY_PORT);
+             SocketChannel channel = SocketChannel.open(server.address())) {
+            ByteBuffer request = ByteBuffer.allocate(4).putInt(SolverProtocol.MAX_STICKS + 1).flip();
+            SolverProtocol.writeFully(channel, request);
+            SolverProtocol.Reader in = new SolverProtocol.Reader(channel, 64);
+            assertEquals(SolverProtocol.TOO_LARGE, in.readByte());
+            assertEquals(0, in.readLong());
+            assertFalse(in.hasMore());
+            assertEquals(1, server.requests());
+            assertEquals(1, server.failures());
+        }
+    }
+
+    @Test
+    @DisplayName("A connection dropped in the middle of a request should give its sticks back")
+    void testDroppedRequest() throws Exception {
+        try (SolverServer server = SolverServer.start(ANY_PORT)) {
+            try (SocketChannel channel = SocketChannel.open(server.address())) {
+                ByteBuffer request = ByteBuffer.allocate(12).putInt(1_000).putInt(1).putInt(2).flip();
+                SolverProtocol.writeFully(channel, request);
+                long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+                while (server.availableSticks() == SolverServer.MAX_BUFFERED_STICKS && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+                assertEquals(SolverServer.MAX_BUFFERED_STICKS - 1_000, server.availableSticks());
+            }
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (server.availableSticks() != SolverServer.MAX_BUFFERED_STICKS && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(SolverServer.MAX_BUFFERED_STICKS, server.availableSticks());
+            assertEquals(0, server.requests());
+        }
+    }
+
+    @Test
+    @DisplayName("Unix-domain sockets should work and be removed on close")
+    void testUnixDomainSocket() throws IOException {
+        Path dir = Files.createTempDirectory("solver");
+        Path socket = dir.resolve("solver.sock");
+        try {
+            try (SolverServer server = SolverServer.start(UnixDomainSocketAddress.of(socket));
+                 SolverClient client = SolverClient.connect(server.address())) {
+                assertEquals(14, client.solve(new int[]{2, 4, 3}));
+                assertTrue(Files.exists(socket));
+            }
+            assertFalse(Files.exists(socket));
+        } finally {
+            Files.deleteIfExists(socket);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    @DisplayName("The load generator should report every request")
+    void testLoadGenerator() throws IOException {
+        try (SolverServer server = SolverServer.start(ANY_PORT)) {
+            LoadGenerator.Report report = LoadGenerator.run(server.address(), 4, 200, 50, 8, 366L);
+            assertEquals(800, report.requests);
+            assertTrue(report.p99Nanos >= report.p50Nanos);
+            assertTrue(report.throughput() > 0);
+            assertTrue(report.toString().contains("800 requests"), report.toString());
+            assertEquals(800, server.requests());
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> LoadGenerator.run(ANY_PORT, 1, 1, 1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Latency percentiles should be within one bucket of the true value")
+    void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(50));
+        for (long v = 1; v <= 10_000; v++) {
+            histogram.record(v * 1_000);
+        }
+        assertEquals(10_000, histogram.count());
+        long p50 = histogram.percentile(50);
+        long p99 = histogram.percentile(99);
+        assertTrue(p50 >= 5_000_000 && p50 <= 5_000_000 * 1.125, "p50 " + p50);
+        assertTrue(p99 >= 9_900_000 && p99 <= 9_900_000 * 1.125, "p99 " + p99);
+        assertEquals(10_000_000, histogram.percentile(100));
+        for (long v : new long[]{0, 1, 7, 8, 9, 15, 16, 1_000_003, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.index(v);
+            assertTrue(LatencyHistogram.upperEdge(index) >= v, "value " + v);
+            assertTrue(index == 0 || LatencyHistogram.upperEdge(index - 1) < v, "value " + v);
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid settings should be rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> SolverServer.start(null));
+        assertThrows(IllegalArgumentException.class, () -> SolverServer.start(ANY_PORT, 0, 1, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> SolverServer.start(ANY_PORT, 1, 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> SolverServer.start(ANY_PORT, 1, 1, Duration.ofNanos(-1)));
+        assertThrows(IllegalArgumentException.class, () -> SolverClient.connect(null));
+        assertEquals(new InetSocketAddress(InetAddress.getLoopbackAddress(), 7366), SolverProtocol.parseAddress("7366"));
+        assertEquals(UnixDomainSocketAddress.of("/tmp/s.sock"), SolverProtocol.parseAddress("/tmp/s.sock"));
+        assertThrows(IllegalArgumentException.class, () -> SolverProtocol.parseAddress("70000"));
+    }
+}
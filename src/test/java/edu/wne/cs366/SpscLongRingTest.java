@@ -0,0 +1,78 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the single-producer single-consumer ring used by the pipelined engine.
+ */
+public class SpscLongRingTest {
+
+    @Test
+    @DisplayName("Every long should arrive once and in order through a small ring")
+    void testTransfersInOrder() throws InterruptedException {
+        SpscLongRing ring = new SpscLongRing(64);
+        int total = 1_000_000;
+        Thread producer = new Thread(() -> {
+            long[] batch = new long[100];
+            for (int sent = 0; sent < total; sent += batch.length) {
+                for (int i = 0; i < batch.length; i++) {
+                    batch[i] = sent + i;
+                }
+                assertTrue(ring.put(batch, 0, batch.length));
+            }
+            ring.close();
+        });
+        producer.start();
+
+        long[] dst = new long[37];
+        long expected = 0;
+        int n;
+        while ((n = ring.take(dst)) >= 0) {
+            assertTrue(n > 0);
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected++, dst[i]);
+            }
+        }
+        assertEquals(total, expected);
+        assertEquals(-1, ring.take(dst), "a closed ring stays finished");
+        producer.join();
+    }
+
+    @Test
+    @DisplayName("A failure should reach the consumer after the longs written before it")
+    void testFailure() {
+        SpscLongRing ring = new SpscLongRing(8);
+        assertTrue(ring.put(new long[]{1, 2, 3}, 0, 3));
+        ring.fail(new IllegalArgumentException("bad input"));
+
+        long[] dst = new long[8];
+        assertEquals(3, ring.take(dst));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ring.take(dst));
+        assertEquals("bad input", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("Cancelling should release a producer blocked on a full ring")
+    void testCancel() throws InterruptedException {
+        SpscLongRing ring = new SpscLongRing(4);
+        AtomicBoolean result = new AtomicBoolean(true);
+        Thread producer = new Thread(() -> result.set(ring.put(new long[10], 0, 10)));
+        producer.start();
+        ring.cancel();
+        producer.join(10_000);
+        assertFalse(producer.isAlive());
+        assertFalse(result.get());
+    }
+
+    @Test
+    @DisplayName("Capacity must be a power of two")
+    void testCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpscLongRing(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpscLongRing(12));
+    }
+}
@@ -0,0 +1,291 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary StickFile format, the streaming and pipelined engines and the command line.
+ */
+public class StickFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("int32 file should round-trip its header and lengths")
+    void testInt32RoundTrip() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        int[] sticks = {2, 4, 3};
+        StickFile.writeInt32(path, sticks);
+
+        assertEquals(16 + 3 * 4, Files.size(path));
+        try (StickFile file = StickFile.open(path)) {
+            assertEquals(3, file.count());
+            assertEquals(4, file.elementWidth());
+            assertFalse(file.isSorted());
+            assertArrayEquals(sticks, file.readInts());
+            assertArrayEquals(new long[]{2, 4, 3}, file.readLongs());
+        }
+    }
+
+    @Test
+    @DisplayName("int64 file should round-trip lengths beyond the int range")
+    void testInt64RoundTrip() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        long[] sticks = {1L, 5_000_000_000L, Long.MAX_VALUE / 4};
+        StickFile.writeInt64(path, sticks);
+
+        try (StickFile file = StickFile.open(path)) {
+            assertEquals(8, file.elementWidth());
+            assertTrue(file.isSorted());
+            assertArrayEquals(sticks, file.readLongs());
+            assertThrows(IllegalStateException.class, file::readInts);
+        }
+    }
+
+    @Test
+    @DisplayName("Header should be little-endian with the STIK magic")
+    void testHeaderLayout() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        StickFile.writeInt32(path, new int[]{1, 2, 0x01020304});
+
+        byte[] bytes = Files.readAllBytes(path);
+        assertEquals("STIK", new String(bytes, 0, 4, java.nio.charset.StandardCharsets.US_ASCII));
+        assertEquals(1, bytes[4]);
+        assertEquals(0, bytes[5]);
+        assertEquals(4, bytes[6]);
+        assertEquals(StickFile.FLAG_SORTED, bytes[7]);
+        assertEquals(3, bytes[8]);
+        // Third stick starts at 16 + 2 * 4, lowest byte first
+        assertEquals(0x04, bytes[24]);
+        assertEquals(0x01, bytes[27]);
+    }
+
+    @Test
+    @DisplayName("Open should reject files that are not stick files")
+    void testRejectsBadFiles() throws IOException {
+        Path path = dir.resolve("bad.bin");
+        Files.write(path, new byte[]{'S', 'T'});
+        assertThrows(IOException.class, () -> StickFile.open(path));
+
+        Files.write(path, new byte[16]);
+        assertThrows(IOException.class, () -> StickFile.open(path));
+
+        // Valid header that claims more sticks than the payload holds
+        StickFile.writeInt32(path, new int[]{1, 2, 3});
+        byte[] truncated = Arrays.copyOf(Files.readAllBytes(path), 16 + 4);
+        Files.write(path, truncated);
+        assertThrows(IOException.class, () -> StickFile.open(path));
+    }
+
+    @Test
+    @DisplayName("Streaming engine should match the heap approach on unsorted and sorted files")
+    void testStreamingMatchesHeap() throws IOException {
+        Random random = new Random(9);
+        Path path = dir.resolve("sticks.bin");
+        for (int trial = 0; trial < 20; trial++) {
+            long[] sticks = new long[2 + random.nextInt(3000)];
+            long maxLength = trial % 2 == 0 ? 50 : 1_000_000_000_000L;
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = (long) (random.nextDouble() * maxLength);
+            }
+            if (trial % 5 == 0) {
+                Arrays.sort(sticks);
+            }
+            StickFile.writeInt64(path, sticks);
+
+            long expected = GreedyAlgorithms.connectSticksHeapLong(sticks);
+            try (StickFile file = StickFile.open(path)) {
+                assertEquals(expected, GreedyAlgorithms.connectSticksStreaming(file));
+                // Tiny partitions force one pass per length range
+                assertEquals(expected, MappedStickMerge.cost(file, 64));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Streaming engine should handle a file of identical sticks")
+    void testStreamingAllEqual() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        int[] sticks = new int[1000];
+        Arrays.fill(sticks, 7);
+        // Shuffle one stick out of place so the file is not flagged as sorted
+        sticks[0] = 8;
+        StickFile.writeInt32(path, sticks);
+
+        try (StickFile file = StickFile.open(path)) {
+            assertFalse(file.isSorted());
+            assertEquals(GreedyAlgorithms.connectSticksHeap(sticks), MappedStickMerge.cost(file, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("Range reads should match the whole-file copy")
+    void testReadRange() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        int[] sticks = {9, -3, 7, 1, 8};
+        StickFile.writeInt32(path, sticks);
+
+        try (StickFile file = StickFile.open(path)) {
+            long[] range = new long[3];
+            file.readLongs(1, range);
+            assertArrayEquals(new long[]{-3, 7, 1}, range);
+            file.readLongs(5, new long[0]);
+            assertThrows(IndexOutOfBoundsException.class, () -> file.readLongs(3, new long[3]));
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelined engine should match the heap approach for any number of workers")
+    void testPipelinedMatchesHeap() throws IOException {
+        Random random = new Random(17);
+        Path path = dir.resolve("sticks.bin");
+        for (int trial = 0; trial < 24; trial++) {
+            // Some inputs span several ring capacities, so workers block on full rings
+            long[] sticks = new long[2 + random.nextInt(trial % 3 == 0 ? 100_000 : 3000)];
+            long maxLength = trial % 2 == 0 ? 50 : 1_000_000_000_000L;
+            for (int i = 0; i < sticks.length; i++) {
+                sticks[i] = (long) (random.nextDouble() * maxLength);
+            }
+            if (trial % 4 == 0) {
+                Arrays.sort(sticks);
+            }
+            StickFile.writeInt64(path, sticks);
+
+            long expected = GreedyAlgorithms.connectSticksHeapLong(sticks);
+            try (StickFile file = StickFile.open(path)) {
+                assertEquals(expected, GreedyAlgorithms.connectSticksPipelined(file));
+                for (int workers : new int[]{1, 2, 3, 8}) {
+                    assertEquals(expected, GreedyAlgorithms.connectSticksPipelined(file, workers),
+                        "trial " + trial + ", " + workers + " workers");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelined engine should read int32 files and tiny inputs")
+    void testPipelinedInt32() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        StickFile.writeInt32(path, new int[]{1, 8, 3, 5});
+        try (StickFile file = StickFile.open(path)) {
+            // More workers than sticks
+            assertEquals(30, GreedyAlgorithms.connectSticksPipelined(file, 16));
+        }
+
+        Random random = new Random(18);
+        int[] sticks = new int[50_000];
+        for (int i = 0; i < sticks.length; i++) {
+            sticks[i] = 1 + random.nextInt(1_000_000);
+        }
+        StickFile.writeInt32(path, sticks);
+        try (StickFile file = StickFile.open(path)) {
+            assertEquals(GreedyAlgorithms.connectSticksHeapLong(file.readLongs()),
+                GreedyAlgorithms.connectSticksPipelined(file, 4));
+        }
+    }
+
+    @Test
+    @DisplayName("Pipelined engine should pass on failures from either side")
+    void testPipelinedFailures() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        long[] sticks = new long[40_000];
+        Arrays.fill(sticks, 3);
+        sticks[30_000] = -1;
+        StickFile.writeInt64(path, sticks);
+        try (StickFile file = StickFile.open(path)) {
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksPipelined(file, 4));
+        }
+
+        // Overflow in the merge thread cancels the workers
+        Arrays.fill(sticks, Long.MAX_VALUE / 4);
+        sticks[0] = 1;
+        StickFile.writeInt64(path, sticks);
+        try (StickFile file = StickFile.open(path)) {
+            assertThrows(ArithmeticException.class, () -> GreedyAlgorithms.connectSticksPipelined(file, 4));
+        }
+
+        // A file flagged sorted whose order breaks across a block boundary
+        for (int i = 0; i < sticks.length; i++) {
+            sticks[i] = i;
+        }
+        sticks[PipelinedMerge.BLOCK] = 0;
+        StickFile.writeInt64(path, sticks);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[7] = StickFile.FLAG_SORTED;
+        Files.write(path, bytes);
+        try (StickFile file = StickFile.open(path)) {
+            assertTrue(file.isSorted());
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> GreedyAlgorithms.connectSticksPipelined(file, 4));
+            assertEquals("File is flagged sorted but 0 follows " + (PipelinedMerge.BLOCK - 1), e.getMessage());
+        }
+
+        StickFile.writeInt32(path, new int[]{5});
+        try (StickFile file = StickFile.open(path)) {
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksPipelined(file));
+        }
+        StickFile.writeInt32(path, new int[]{5, 6});
+        try (StickFile file = StickFile.open(path)) {
+            assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksPipelined(file, 0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> GreedyAlgorithms.connectSticksPipelined(null));
+    }
+
+    @Test
+    @DisplayName("Command line should solve a file with every engine")
+    void testCommandLineEngines() throws IOException {
+        Path path = dir.resolve("sticks.bin");
+        StickFile.writeInt32(path, new int[]{1, 8, 3, 5});
+
+        for (String engine : new String[]{"auto", "naive", "heap", "primitive", "twoqueue", "parallel", "plan", "stream", "histogram", "pipelined"}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int status = StickCommandLine.run(new String[]{path.toString(), engine},
+                new PrintStream(out), new PrintStream(new ByteArrayOutputStream()));
+            assertEquals(0, status, engine);
+            assertTrue(out.toString().contains("Cost:    30"), engine + ": " + out);
+        }
+    }
+
+    @Test
+    @DisplayName("Command line should generate a file that the engines can read")
+    void testCommandLineGenerate() throws IOException {
+        Path path = dir.resolve("generated.bin");
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream());
+        assertEquals(0, StickCommandLine.run(
+            new String[]{"--generate", path.toString(), "500", "1", "100", "--sorted"}, quiet, quiet));
+
+        try (StickFile file = StickFile.open(path)) {
+            assertEquals(500, file.count());
+            assertTrue(file.isSorted());
+            int[] sticks = file.readInts();
+            assertTrue(Arrays.stream(sticks).allMatch(s -> s >= 1 && s <= 100));
+        }
+    }
+
+    @Test
+    @DisplayName("Command line should report usage and read errors through its exit status")
+    void testCommandLineErrors() throws IOException {
+        PrintStream quiet = new PrintStream(new ByteArrayOutputStream());
+        Path path = dir.resolve("sticks.bin");
+        StickFile.writeInt32(path, new int[]{2, 4, 3});
+
+        assertEquals(2, StickCommandLine.run(new String[]{path.toString(), "bogus"}, quiet, quiet));
+        assertEquals(2, StickCommandLine.run(new String[]{"--generate", "x"}, quiet, quiet));
+        assertEquals(1, StickCommandLine.run(new String[]{dir.resolve("missing.bin").toString()}, quiet, quiet));
+
+        StickFile.writeInt32(path, new int[]{5});
+        assertEquals(1, StickCommandLine.run(new String[]{path.toString()}, quiet, quiet));
+    }
+}
@@ -0,0 +1,135 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the mutable stick inventory.
+ */
+public class StickInventoryTest {
+
+    private static long expected(List<Long> sticks) {
+        if (sticks.size() < 2) {
+            return 0;
+        }
+        long[] array = new long[sticks.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = sticks.get(i);
+        }
+        return GreedyAlgorithms.connectSticksTwoQueueLong(array);
+    }
+
+    @Test
+    @DisplayName("Example: [2, 4, 3] -> 14, then updates")
+    void testExample() {
+        StickInventory inventory = new StickInventory(new int[]{2, 4, 3});
+        assertEquals(14, inventory.cost());
+        inventory.add(1);
+        inventory.add(6);
+        assertEquals(35, inventory.cost());
+        assertTrue(inventory.remove(6));
+        assertEquals(19, inventory.cost());
+        assertFalse(inventory.remove(6));
+        assertEquals(4, inventory.size());
+        assertEquals(4, inventory.distinctLengths());
+    }
+
+    @Test
+    @DisplayName("Cost should match a fresh solve after every random update")
+    void testRandomUpdates() {
+        Random random = new Random(22);
+        for (int bound : new int[]{5, 1_000_000}) {
+            StickInventory inventory = new StickInventory();
+            List<Long> mirror = new ArrayList<>();
+            for (int op = 0; op < 3_000; op++) {
+                if (mirror.isEmpty() || random.nextInt(3) > 0) {
+                    long length = random.nextInt(bound);
+                    inventory.add(length);
+                    mirror.add(length);
+                } else {
+                    long length = mirror.remove(random.nextInt(mirror.size()));
+                    assertTrue(inventory.remove(length));
+                }
+                if (op % 7 == 0) {
+                    assertEquals(expected(mirror), inventory.cost(), "op " + op + ", bound " + bound);
+                }
+            }
+            assertEquals(mirror.size(), inventory.size());
+            assertEquals(expected(mirror), inventory.cost());
+        }
+    }
+
+    @Test
+    @DisplayName("Bulk load should equal adding the sticks one at a time")
+    void testBulkLoad() {
+        Random random = new Random(23);
+        int[] sticks = new int[2_000];
+        for (int i = 0; i < sticks.length; i++) {
+            sticks[i] = random.nextInt(300);
+        }
+        StickInventory bulk = new StickInventory(sticks);
+        StickInventory incremental = new StickInventory();
+        for (int stick : sticks) {
+            incremental.add(stick);
+        }
+        assertEquals(GreedyAlgorithms.connectSticksRunLength(sticks), bulk.cost());
+        assertEquals(bulk.cost(), incremental.cost());
+        assertEquals(bulk.distinctLengths(), incremental.distinctLengths());
+        for (int length = 0; length < 300; length++) {
+            assertEquals(bulk.count(length), incremental.count(length), "length " + length);
+        }
+    }
+
+    @Test
+    @DisplayName("Fewer than two sticks should cost nothing")
+    void testSmallInventories() {
+        StickInventory inventory = new StickInventory();
+        assertEquals(0, inventory.cost());
+        inventory.add(5);
+        assertEquals(0, inventory.cost());
+        inventory.add(5, 3);
+        assertEquals(40, inventory.cost());
+        assertEquals(4, inventory.count(5));
+        inventory.add(9, 0);
+        assertEquals(0, inventory.count(9));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(inventory.remove(5));
+        }
+        assertEquals(0, inventory.cost());
+        assertEquals(0, inventory.distinctLengths());
+        assertEquals("StickInventory(sticks=0, distinct=0)", inventory.toString());
+        assertEquals(0, new StickInventory(new int[0]).cost());
+    }
+
+    @Test
+    @DisplayName("Overflow should fail in cost() and leave the inventory usable")
+    void testOverflow() {
+        StickInventory inventory = new StickInventory();
+        inventory.add(Long.MAX_VALUE / 2, 3);
+        assertThrows(ArithmeticException.class, inventory::cost);
+        assertTrue(inventory.remove(Long.MAX_VALUE / 2));
+        assertEquals(Long.MAX_VALUE - 1, inventory.cost());
+        assertTrue(inventory.remove(Long.MAX_VALUE / 2));
+        inventory.add(1);
+        assertEquals(Long.MAX_VALUE / 2 + 1, inventory.cost());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new StickInventory(null));
+        assertThrows(IllegalArgumentException.class, () -> new StickInventory(new int[]{3, -1}));
+        StickInventory inventory = new StickInventory();
+        assertThrows(IllegalArgumentException.class, () -> inventory.add(-1));
+        assertThrows(IllegalArgumentException.class, () -> inventory.add(1, -1));
+        inventory.add(1, Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> inventory.add(2));
+        assertEquals(Long.MAX_VALUE, inventory.size());
+    }
+}
@@ -0,0 +1,89 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the input scans agree with a straightforward reference on every length and edge
+ * value.
+ */
+public class StickKernelsTest {
+
+    private static int[] random(Random random, int n, int bound) {
+        int[] sticks = new int[n];
+        for (int i = 0; i < n; i++) {
+            sticks[i] = random.nextInt(bound);
+        }
+        return sticks;
+    }
+
+    @Test
+    @DisplayName("scan and minMax should match a reference")
+    void testScanAndMinMax() {
+        Random random = new Random(20);
+        for (int n = 1; n <= 80; n++) {
+            for (int trial = 0; trial < 20; trial++) {
+                int[] sticks = switch (trial % 4) {
+                    case 0 -> random(random, n, 1_000);
+                    case 1 -> random(random, n, 3);
+                    case 2 -> {
+                        int[] sorted = random(random, n, 50);
+                        Arrays.sort(sorted);
+                        yield sorted;
+                    }
+                    default -> {
+                        int[] reversed = random(random, n, 50);
+                        Arrays.sort(reversed);
+                        for (int i = 0; i < n / 2; i++) {
+                            int t = reversed[i];
+                            reversed[i] = reversed[n - 1 - i];
+                            reversed[n - 1 - i] = t;
+                        }
+                        yield reversed;
+                    }
+                };
+                if (trial == 5) {
+                    sticks[random.nextInt(n)] = Integer.MIN_VALUE;
+                    sticks[random.nextInt(n)] = Integer.MAX_VALUE;
+                }
+                int[] ascending = sticks.clone();
+                Arrays.sort(ascending);
+                int[] descending = new int[n];
+                for (int i = 0; i < n; i++) {
+                    descending[i] = ascending[n - 1 - i];
+                }
+                StickKernels.Scan scan = StickKernels.scan(sticks);
+                long minMax = StickKernels.minMax(sticks);
+                String label = Arrays.toString(sticks);
+                assertEquals(ascending[0], scan.min, label);
+                assertEquals(ascending[n - 1], scan.max, label);
+                assertEquals(Arrays.equals(sticks, ascending), scan.ascending, label);
+                assertEquals(Arrays.equals(sticks, descending), scan.descending, label);
+                assertEquals(ascending[0], StickKernels.packedMin(minMax), label);
+                assertEquals(ascending[n - 1], StickKernels.packedMax(minMax), label);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A single out-of-order pair should be found at every position")
+    void testSortednessAtEveryPosition() {
+        for (int n = 2; n <= 40; n++) {
+            for (int swap = 0; swap + 1 < n; swap++) {
+                int[] sticks = new int[n];
+                for (int i = 0; i < n; i++) {
+                    sticks[i] = i;
+                }
+                sticks[swap] = n;
+                StickKernels.Scan scan = StickKernels.scan(sticks);
+                assertFalse(scan.ascending, n + " / " + swap);
+                assertEquals(n == 2, scan.descending, n + " / " + swap);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the incremental StickMerger.
+ *
+ * Every merger must produce exactly the same total as the batch engines on the same sticks.
+ */
+public class StickMergerTest {
+
+    private static int[] randomSticks(int count, long seed) {
+        Random random = new Random(seed);
+        int[] sticks = new int[count];
+        for (int i = 0; i < count; i++) {
+            sticks[i] = random.nextInt(100) + 1;
+        }
+        return sticks;
+    }
+
+    @Test
+    @DisplayName("Example from problem description: [2, 4, 3] -> 14")
+    void testBasicExample() {
+        StickMerger merger = new StickMerger();
+        merger.addAll(new int[]{2, 4, 3});
+        assertEquals(14L, merger.finish());
+    }
+
+    @Test
+    @DisplayName("Unsorted chunks should match the heap approach")
+    void testUnsortedChunks() {
+        int[] sticks = randomSticks(10_000, 1);
+        StickMerger merger = new StickMerger();
+        for (int offset = 0; offset < sticks.length; offset += 777) {
+            merger.addAll(sticks, offset, Math.min(777, sticks.length - offset));
+        }
+        assertEquals(sticks.length, merger.sticksAdded());
+        assertEquals(GreedyAlgorithms.connectSticksPrimitiveHeap(sticks), merger.finish());
+    }
+
+    @Test
+    @DisplayName("Sorted feed should merge eagerly and keep fewer sticks live than it has seen")
+    void testSortedFeed() {
+        int[] sticks = randomSticks(100_000, 2);
+        Arrays.sort(sticks);
+
+        StickMerger merger = StickMerger.forSortedFeed();
+        int peakLive = 0;
+        for (int stick : sticks) {
+            merger.add(stick);
+            peakLive = Math.max(peakLive, merger.liveSticks());
+        }
+
+        assertTrue(merger.currentCost() > 0, "Sorted feed should have merged before finish()");
+        // Only sticks longer than the latest input stay live (about a third of them here)
+        assertTrue(peakLive < sticks.length / 2, "Live sticks should stay below the input size, was " + peakLive);
+        assertEquals(GreedyAlgorithms.connectSticksTwoQueue(sticks), merger.finish());
+    }
+
+    @Test
+    @DisplayName("promiseAtLeast should merge everything below the bound")
+    void testPromiseAtLeast() {
+        StickMerger merger = new StickMerger();
+        merger.addAll(new int[]{1, 8, 3, 5});
+        assertEquals(0L, merger.currentCost());
+
+        // Connect 1+3=4 (cost 4), then 4+5=9 (cost 9); 8 and 9 stay live above the bound
+        merger.promiseAtLeast(5);
+        assertEquals(13L, merger.currentCost());
+        assertEquals(2, merger.liveSticks());
+
+        merger.add(6);
+        assertEquals(GreedyAlgorithms.connectSticksHeap(new int[]{1, 8, 3, 5, 6}), merger.finish());
+    }
+
+    @Test
+    @DisplayName("Sorted feed should reject a stick shorter than the previous one")
+    void testSortedFeedRejectsOutOfOrder() {
+        StickMerger merger = StickMerger.forSortedFeed();
+        merger.add(5);
+        assertThrows(IllegalArgumentException.class, () -> merger.add(4));
+    }
+
+    @Test
+    @DisplayName("finish() should require at least two sticks")
+    void testFinishTooFewSticks() {
+        StickMerger merger = new StickMerger();
+        merger.add(5);
+        assertThrows(IllegalStateException.class, merger::finish);
+    }
+
+    @Test
+    @DisplayName("add() after finish() should be rejected")
+    void testAddAfterFinish() {
+        StickMerger merger = new StickMerger();
+        merger.addAll(new int[]{5, 7});
+        assertEquals(12L, merger.finish());
+        assertEquals(12L, merger.finish());
+        assertThrows(IllegalStateException.class, () -> merger.add(1));
+    }
+}
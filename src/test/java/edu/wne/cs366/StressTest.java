@@ -0,0 +1,351 @@
+package edu.wne.cs366;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential stress suite: every engine on seeded random and adversarial inputs of up to
+ * 10^7 sticks, checked against connectSticksExact() and held to a time and an allocation budget.
+ * Where the exact cost does not fit in a long, every long engine must throw ArithmeticException.
+ *
+ * Tagged "stress", so ./gradlew test skips it; run it with ./gradlew stressTest. System
+ * properties (set by the Gradle task from -PstressMaxSticks / -PstressSeed / -PstressVerbose):
+ * - stress.maxSticks: largest input size, default 10^7
+ * - stress.seed: seed for every generated input, default 366
+ * - stress.verbose: if true, print the time and allocation of every engine on every case
+ *
+ * Budgets are per engine, fixed overhead plus a per-stick allowance, set several times above
+ * what the engines measure so they catch a change of complexity class or a new per-stick
+ * allocation rather than machine noise. Allocation is counted on the calling thread only, so
+ * the work done on pool or pipeline threads is not included.
+ */
+@Tag("stress")
+public class StressTest {
+
+    private static final int MAX_STICKS = Integer.getInteger("stress.maxSticks", 10_000_000);
+    private static final long SEED = Long.getLong("stress.seed", 366L);
+    private static final boolean VERBOSE = Boolean.getBoolean("stress.verbose");
+    private static final int[] SIZES = {2, 10, 1_000, 100_000, 1_000_000, 10_000_000};
+
+    private static final long FIXED_NANOS = 250_000_000L;
+    private static final long FIXED_BYTES = 1L << 20;
+
+    /** Lengths above this overflow an int cost at the second merge. */
+    private static final int NEAR_INT_MAX = Integer.MAX_VALUE / 2 - 1_000;
+
+    private static final com.sun.management.ThreadMXBean ALLOCATION_COUNTER = allocationCounter();
+
+    @TempDir
+    Path dir;
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    /**
+     * One input under test, as int[] when it fits and always as long[].
+     */
+    private static final class Case {
+        final String shape;
+        final int[] ints;
+        final long[] longs;
+
+        Case(String shape, int[] ints, long[] longs) {
+            this.shape = shape;
+            this.ints = ints;
+            this.longs = longs;
+        }
+
+        int size() {
+            return longs.length;
+        }
+    }
+
+    /**
+     * An engine under test. prepare does untimed setup (copies, files) and returns the timed call.
+     */
+    private static final class Engine {
+        final String name;
+        final boolean needsInts;
+        final boolean intResult;
+        final int maxSticks;
+        final long nanosPerStick;
+        final long bytesPerStick;
+        final Function<Case, LongSupplier> prepare;
+
+        Engine(String name, boolean needsInts, boolean intResult, int maxSticks,
+               long nanosPerStick, long bytesPerStick, Function<Case, LongSupplier> prepare) {
+            this.name = name;
+            this.needsInts = needsInts;
+            this.intResult = intResult;
+            this.maxSticks = maxSticks;
+            this.nanosPerStick = nanosPerStick;
+            this.bytesPerStick = bytesPerStick;
+            this.prepare = prepare;
+        }
+    }
+
+    private List<Engine> engines() {
+        List<Engine> engines = new ArrayList<>();
+        // int[] engines whose int result is only exact while the cost fits in an int
+        engines.add(new Engine("naive", true, true, 20_000, 100_000, 64,
+            c -> () -> GreedyAlgorithms.connectSticksNaive(c.ints)));
+        engines.add(new Engine("heap", true, true, Integer.MAX_VALUE, 5_000, 64,
+            c -> () -> GreedyAlgorithms.connectSticksHeap(c.ints)));
+        engines.add(new Engine("primitiveHeap", true, true, Integer.MAX_VALUE, 1_500, 32,
+            c -> () -> GreedyAlgorithms.connectSticksPrimitiveHeap(c.ints)));
+        engines.add(new Engine("twoQueue", true, true, Integer.MAX_VALUE, 500, 32,
+            c -> () -> GreedyAlgorithms.connectSticksTwoQueue(c.ints)));
+
+        // int[] engines with a checked long result
+        engines.add(new Engine("auto", true, false, Integer.MAX_VALUE, 1_000, 48,
+            c -> () -> GreedyAlgorithms.connectSticks(c.ints)));
+        for (int arity : new int[]{2, 4, 8, 16}) {
+            engines.add(new Engine("dary" + arity, true, false, Integer.MAX_VALUE, 3_000, 32,
+                c -> () -> GreedyAlgorithms.connectSticksDaryHeap(c.ints, arity)));
+        }
+        engines.add(new Engine("parallel", true, false, Integer.MAX_VALUE, 500, 32,
+            c -> () -> GreedyAlgorithms.connectSticksParallel(c.ints)));
+        // Distinct lengths make one run per stick, about 54 bytes each
+        engines.add(new Engine("runLength", true, false, Integer.MAX_VALUE, 1_500, 96,
+            c -> () -> GreedyAlgorithms.connectSticksRunLength(c.ints)));
+        engines.add(new Engine("plan", true, false, Integer.MAX_VALUE, 1_500, 64,
+            c -> () -> GreedyAlgorithms.connectSticksWithPlan(c.ints).cost()));
+        engines.add(new Engine("session", true, false, Integer.MAX_VALUE, 2_000, 32,
+            c -> () -> GreedyAlgorithms.mergeSession(c.ints).finish()));
+
+        // long[] engines
+        engines.add(new Engine("naiveLong", false, false, 20_000, 100_000, 64,
+            c -> () -> GreedyAlgorithms.connectSticksNaiveLong(c.longs)));
+        engines.add(new Engine("reference", false, false, GreedyAlgorithms.REFERENCE_MAX_STICKS, 20_000, 32,
+            c -> () -> GreedyAlgorithms.connectSticksReference(c.longs)));
+        engines.add(new Engine("heapLong", false, false, Integer.MAX_VALUE, 5_000, 64,
+            c -> () -> GreedyAlgorithms.connectSticksHeapLong(c.longs)));
+        engines.add(new Engine("primitiveHeapLong", false, false, Integer.MAX_VALUE, 1_500, 32,
+            c -> () -> GreedyAlgorithms.connectSticksPrimitiveHeapLong(c.longs)));
+        // Costs beyond a long fall back to BigInteger: about 2.5 us and 200 bytes per stick
+        engines.add(new Engine("exact", false, false, Integer.MAX_VALUE, 10_000, 256,
+            c -> () -> GreedyAlgorithms.connectSticksExact(c.longs).longValueExact()));
+        engines.add(new Engine("stream", false, false, Integer.MAX_VALUE, 2_000, 32, c -> {
+            StickFile file = write(c);
+            return () -> GreedyAlgorithms.connectSticksStreaming(file);
+        }));
+        engines.add(new Engine("pipelined", false, false, Integer.MAX_VALUE, 1_500, 24, c -> {
+            StickFile file = write(c);
+            return () -> GreedyAlgorithms.connectSticksPipelined(file);
+        }));
+        return engines;
+    }
+
+    @Test
+    @DisplayName("Engines should agree on uniform random lengths, wide and narrow")
+    void testRandom() throws Exception {
+        for (int n : sizes()) {
+            SplittableRandom random = random(n);
+            checkAllEngines(ofInts("random-wide", random.ints(n, 1, 1_000_000_000).toArray()));
+            checkAllEngines(ofInts("random-narrow", random.ints(n, 1, 101).toArray()));
+        }
+    }
+
+    @Test
+    @DisplayName("Engines should agree on sorted and reversed lengths")
+    void testSortedAndReversed() throws Exception {
+        for (int n : sizes()) {
+            int[] sticks = random(n).ints(n, 1, 1_000_000_000).toArray();
+            Arrays.sort(sticks);
+            checkAllEngines(ofInts("sorted", sticks.clone()));
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                int t = sticks[i];
+                sticks[i] = sticks[j];
+                sticks[j] = t;
+            }
+            checkAllEngines(ofInts("reversed", sticks));
+        }
+    }
+
+    @Test
+    @DisplayName("Engines should agree when every stick has the same length")
+    void testAllEqual() throws Exception {
+        for (int n : sizes()) {
+            int[] sticks = new int[n];
+            Arrays.fill(sticks, 1 + random(n).nextInt(1_000));
+            checkAllEngines(ofInts("all-equal", sticks));
+        }
+    }
+
+    /**
+     * Fibonacci lengths make every merge consume the previous merge's result, so the merge tree
+     * is a single chain, as deep as it can be. A chain cannot be longer than the Fibonacci
+     * numbers that fit in an int (45 of them), so larger inputs tile shuffled copies of it.
+     */
+    @Test
+    @DisplayName("Engines should agree on Fibonacci-like inputs of maximal merge depth")
+    void testFibonacciLike() throws Exception {
+        int[] fibonacci = new int[45];
+        fibonacci[0] = 1;
+        fibonacci[1] = 1;
+        for (int i = 2; i < fibonacci.length; i++) {
+            fibonacci[i] = fibonacci[i - 1] + fibonacci[i - 2];
+        }
+        checkAllEngines(ofInts("fibonacci-chain", fibonacci.clone()));
+
+        for (int n : sizes()) {
+            SplittableRandom random = random(n);
+            int[] sticks = new int[n];
+            for (int i = 0; i < n; i++) {
+                sticks[i] = fibonacci[i % fibonacci.length];
+            }
+            shuffle(sticks, random);
+            checkAllEngines(ofInts("fibonacci-tiled", sticks));
+        }
+    }
+
+    @Test
+    @DisplayName("Engines should agree on lengths near the int limit, where int results overflow")
+    void testNearIntOverflow() throws Exception {
+        for (int n : sizes()) {
+            int[] sticks = random(n).ints(n, NEAR_INT_MAX - 1_000, NEAR_INT_MAX).toArray();
+            checkAllEngines(ofInts("near-int-max", sticks));
+        }
+    }
+
+    /**
+     * Lengths of about Long.MAX_VALUE / (n log n), scaled so one case fits in a long and the
+     * next does not: every long engine must either return the exact cost or throw.
+     */
+    @Test
+    @DisplayName("Engines should agree on the cost or all throw near the long limit")
+    void testNearLongOverflow() throws Exception {
+        for (int n : sizes()) {
+            long base = Long.MAX_VALUE / ((long) n * (64 - Long.numberOfLeadingZeros(n)) + 1);
+            for (long scale : new long[]{1, 4}) {
+                SplittableRandom random = random(n);
+                long[] sticks = new long[n];
+                for (int i = 0; i < n; i++) {
+                    sticks[i] = Math.max(1, base * scale - random.nextLong(Math.max(1, base / 16)));
+                }
+                checkAllEngines(new Case("near-long-max x" + scale, null, sticks));
+            }
+        }
+    }
+
+    /**
+     * Run every applicable engine on one case and check result, time and allocation.
+     */
+    private void checkAllEngines(Case c) throws Exception {
+        try {
+            checkEngines(c);
+        } finally {
+            for (AutoCloseable resource : resources) {
+                resource.close();
+            }
+            resources.clear();
+        }
+    }
+
+    private void checkEngines(Case c) {
+        int n = c.size();
+        StickCost exact = GreedyAlgorithms.connectSticksExact(c.longs);
+        Long expected = exact.fitsInLong() ? exact.longValueExact() : null;
+
+        for (Engine engine : engines()) {
+            if (n > engine.maxSticks || (engine.needsInts && c.ints == null)
+                || (engine.intResult && (expected == null || expected > Integer.MAX_VALUE))) {
+                continue;
+            }
+            String label = engine.name + " on " + c.shape + ", n=" + n + ", seed=" + SEED;
+            LongSupplier call = engine.prepare.apply(c);
+            System.gc();
+
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            Long actual;
+            try {
+                actual = call.getAsLong();
+            } catch (ArithmeticException e) {
+                actual = null;
+            }
+            long nanos = System.nanoTime() - start;
+            long bytes = allocatedBytes() - bytesBefore;
+
+            assertEquals(expected, actual, label + (expected == null ? ": expected overflow" : ""));
+            long nanosBudget = FIXED_NANOS + n * engine.nanosPerStick;
+            assertTrue(nanos <= nanosBudget,
+                label + ": took " + nanos / 1_000_000 + " ms, budget " + nanosBudget / 1_000_000 + " ms");
+            if (bytesBefore >= 0) {
+                long bytesBudget = FIXED_BYTES + n * engine.bytesPerStick;
+                assertTrue(bytes <= bytesBudget,
+                    label + ": allocated " + bytes + " bytes, budget " + bytesBudget);
+            }
+            if (VERBOSE) {
+                System.out.printf("%-18s %-20s n=%-9d %10.1f ms %14d bytes%n",
+                    engine.name, c.shape, n, nanos / 1e6, bytes);
+            }
+        }
+    }
+
+    private StickFile write(Case c) {
+        try {
+            Path path = dir.resolve("stress-" + resources.size() + ".sticks");
+            StickFile.writeInt64(path, c.longs);
+            StickFile file = StickFile.open(path);
+            resources.add(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Case ofInts(String shape, int[] sticks) {
+        long[] longs = new long[sticks.length];
+        for (int i = 0; i < sticks.length; i++) {
+            longs[i] = sticks[i];
+        }
+        return new Case(shape, sticks, longs);
+    }
+
+    private static int[] sizes() {
+        return Arrays.stream(SIZES).filter(n -> n <= MAX_STICKS).toArray();
+    }
+
+    private static SplittableRandom random(int n) {
+        return new SplittableRandom(SEED * 31 + n);
+    }
+
+    private static void shuffle(int[] sticks, SplittableRandom random) {
+        for (int i = sticks.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = sticks[i];
+            sticks[i] = sticks[j];
+            sticks[j] = t;
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION_COUNTER == null ? -1 : ALLOCATION_COUNTER.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean counter
+                && counter.isThreadAllocatedMemorySupported()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+            return counter;
+        }
+        return null;
+    }
+}